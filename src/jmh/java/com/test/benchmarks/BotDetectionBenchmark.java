@@ -0,0 +1,51 @@
+package com.test.benchmarks;
+
+import com.test.utils.BotDetectionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bot check indicator matching on captured page sources, including the lower-casing the handler does.
+ * A normal results page is the worst case: every indicator is scanned across the whole source.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BotDetectionBenchmark {
+
+    private static final String RESULTS_URL = "https://www.amazon.com/s?k=macbook+pro";
+    private static final String CAPTCHA_URL = "https://www.amazon.com/errors/validatecaptcha";
+
+    private String searchResultsSource;
+    private String robotCheckSource;
+
+    @Setup
+    public void setUp() {
+        searchResultsSource = Fixtures.text("search-results.html");
+        robotCheckSource = Fixtures.text("robot-check.html");
+    }
+
+    @Benchmark
+    public String searchResultsPage() {
+        return BotDetectionHandler.findBotIndicator(searchResultsSource.toLowerCase(Locale.ROOT), RESULTS_URL);
+    }
+
+    @Benchmark
+    public String robotCheckPage() {
+        return BotDetectionHandler.findBotIndicator(robotCheckSource.toLowerCase(Locale.ROOT), CAPTCHA_URL);
+    }
+}
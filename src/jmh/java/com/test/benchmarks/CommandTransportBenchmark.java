@@ -0,0 +1,149 @@
+package com.test.benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+import com.test.utils.SharedHttpClientFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.jdk.JdkHttpClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebDriver command transport: Selenium's default per-session JDK client ("per-session") against
+ * {@link SharedHttpClientFactory} ("shared"), with the pool settings DriverManager applies.
+ * Each benchmark thread is one parallel scenario talking to its own stub driver service on localhost,
+ * which answers every command with a small W3C JSON value, so the numbers are transport overhead only
+ * (the stub disables Nagle like real driver services, otherwise delayed ACKs add ~40 ms per command).
+ * <ul>
+ *   <li>{@code command}: one command on an open session (steady-state per-command latency).</li>
+ *   <li>{@code sessionLifecycle}: client setup, {@value #COMMANDS_PER_SESSION} commands and close, averaged per
+ *       command; this is where per-session thread pools and fresh connections cost.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djdk.httpclient.keepalive.timeout=120", "-Djdk.httpclient.connectionPoolSize=16",
+        "-Dsun.net.httpserver.nodelay=true"})
+@Threads(4)
+public class CommandTransportBenchmark {
+
+    private static final int SERVICES = 4;
+    private static final int COMMANDS_PER_SESSION = 20;
+    private static final byte[] RESPONSE = "{\"value\":\"Amazon.com : macbook pro\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"per-session", "shared"})
+    public String transport;
+
+    private HttpServer[] services;
+    private HttpClient.Factory factory;
+    private ClientConfig baseConfig;
+
+    @Setup
+    public void setUp() throws IOException {
+        services = new HttpServer[SERVICES];
+        for (int i = 0; i < SERVICES; i++) {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.createContext("/", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+                exchange.sendResponseHeaders(200, RESPONSE.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(RESPONSE);
+                }
+            });
+            server.setExecutor(Executors.newFixedThreadPool(2));
+            server.start();
+            services[i] = server;
+        }
+        factory = "shared".equals(transport) ? new SharedHttpClientFactory() : new JdkHttpClient.Factory();
+        baseConfig = ClientConfig.defaultConfig()
+                .connectionTimeout(Duration.ofSeconds(2))
+                .readTimeout(Duration.ofSeconds(45));
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (HttpServer server : services) {
+            server.stop(0);
+            ((ExecutorService) server.getExecutor()).shutdownNow();
+        }
+        SharedHttpClientFactory.closeAll();
+    }
+
+    private ClientConfig sessionConfig(int threadIndex) {
+        return baseConfig.baseUri(URI.create("http://127.0.0.1:" + services[threadIndex % SERVICES].getAddress().getPort()));
+    }
+
+    /**
+     * An open session of the current benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Session {
+        private HttpClient client;
+        private ClientConfig config;
+
+        @Setup(Level.Iteration)
+        public void open(CommandTransportBenchmark benchmark, ThreadParams thread) {
+            config = benchmark.sessionConfig(thread.getThreadIndex());
+            client = benchmark.factory.createClient(config);
+        }
+
+        @TearDown(Level.Iteration)
+        public void close() {
+            client.close();
+        }
+    }
+
+    @Benchmark
+    public Object command(Session session) {
+        return session.client.execute(getTitle()).getContent();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMMANDS_PER_SESSION)
+    public void sessionLifecycle(Session session, Blackhole bh) {
+        HttpClient client = factory.createClient(session.config);
+        try {
+            for (int i = 0; i < COMMANDS_PER_SESSION; i++) {
+                bh.consume(client.execute(getTitle()).getContent());
+            }
+        } finally {
+            client.close();
+        }
+    }
+
+    private static HttpRequest getTitle() {
+        return new HttpRequest(HttpMethod.GET, "/session/4b1f0c2e/title");
+    }
+}
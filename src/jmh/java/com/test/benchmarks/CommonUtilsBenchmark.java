@@ -0,0 +1,59 @@
+package com.test.benchmarks;
+
+import com.test.utils.CommonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CommonUtils text helpers used while scraping search results and cart rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommonUtilsBenchmark {
+
+    private static final String[] KEYWORDS = {"macbook pro", "apple", "m3", "m4"};
+
+    private List<String> priceTexts;
+    private List<String> titles;
+
+    @Setup
+    public void setUp() {
+        priceTexts = Fixtures.lines("price-texts.txt");
+        titles = Fixtures.lines("product-titles.txt");
+    }
+
+    @Benchmark
+    public void extractPriceFromText(Blackhole bh) {
+        for (String priceText : priceTexts) {
+            bh.consume(CommonUtils.extractPriceFromText(priceText));
+        }
+    }
+
+    @Benchmark
+    public void containsAnyKeyword(Blackhole bh) {
+        for (String title : titles) {
+            bh.consume(CommonUtils.containsAnyKeyword(title, KEYWORDS));
+        }
+    }
+
+    @Benchmark
+    public List<String> filterListByKeyword() {
+        return CommonUtils.filterListByKeyword(titles, "MacBook Pro");
+    }
+}
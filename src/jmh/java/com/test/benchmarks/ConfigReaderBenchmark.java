@@ -0,0 +1,47 @@
+package com.test.benchmarks;
+
+import com.test.config.ConfigReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConfigReader getters; these are called on every driver creation and many waits.
+ * Runs from the project root so the config file path resolves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigReaderBenchmark {
+
+    @Benchmark
+    public String getBrowserType() {
+        return ConfigReader.getBrowserType();
+    }
+
+    @Benchmark
+    public boolean isHeadless() {
+        return ConfigReader.isHeadless();
+    }
+
+    @Benchmark
+    public int getExplicitWait() {
+        return ConfigReader.getExplicitWait();
+    }
+
+    @Benchmark
+    public String getBaseUrl() {
+        return ConfigReader.getBaseUrl();
+    }
+}
@@ -0,0 +1,34 @@
+package com.test.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loads the captured fixture strings under {@code src/jmh/resources/fixtures} from the classpath.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+        // Utility class
+    }
+
+    static String text(String name) {
+        String path = "/fixtures/" + name;
+        try (InputStream in = Fixtures.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("Fixture not found on classpath: " + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read fixture " + path, e);
+        }
+    }
+
+    static List<String> lines(String name) {
+        return Arrays.asList(text(name).split("\n", -1));
+    }
+}
@@ -0,0 +1,50 @@
+package com.test.benchmarks;
+
+import com.test.pages.SearchResultsPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Title and price filters applied to scraped search result texts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchResultsFilterBenchmark {
+
+    private List<String> titles;
+    private List<String> priceTexts;
+
+    @Setup
+    public void setUp() {
+        titles = Fixtures.lines("product-titles.txt");
+        priceTexts = Fixtures.lines("price-texts.txt");
+    }
+
+    @Benchmark
+    public void titleFilter(Blackhole bh) {
+        for (String title : titles) {
+            bh.consume(SearchResultsPage.isMacBookTitle(title));
+        }
+    }
+
+    @Benchmark
+    public List<Double> priceFilter() {
+        return SearchResultsPage.parsePrices(priceTexts);
+    }
+}
@@ -90,6 +90,50 @@ public class ConfigReader {
         return Integer.parseInt(getProperty("explicit.wait", "20"));
     }
     
+    /**
+     * Wait backend: "event" completes waits from in-page DOM/load/network events, "polling" uses WebDriverWait
+     * polling only. A -Dwait.backend system property overrides it.
+     */
+    public static String getWaitBackend() {
+        return System.getProperty("wait.backend", getProperty("wait.backend", "event"));
+    }
+
+    /**
+     * First polling interval of a wait (milliseconds); later polls back off up to {@link #getWaitPollMaxMillis()}.
+     */
+    public static long getWaitPollInitialMillis() {
+        return Long.parseLong(getProperty("wait.poll.initial.ms", "50"));
+    }
+
+    /**
+     * Longest polling interval a backing-off wait reaches (milliseconds).
+     */
+    public static long getWaitPollMaxMillis() {
+        return Long.parseLong(getProperty("wait.poll.max.ms", "500"));
+    }
+
+    /**
+     * Factor each polling interval grows by until the maximum is reached.
+     */
+    public static double getWaitPollBackoff() {
+        return Double.parseDouble(getProperty("wait.poll.backoff", "1.5"));
+    }
+
+    /**
+     * How long the page must have no fetch/XHR in flight to count as network idle (milliseconds).
+     */
+    public static long getNetworkIdleMillis() {
+        return Long.parseLong(getProperty("wait.network.idle.ms", "500"));
+    }
+
+    /**
+     * Longest event await between two checks of the WebDriver condition (milliseconds); bounds what a wrong
+     * in-page hint can cost a wait.
+     */
+    public static long getWaitEventChunkMillis() {
+        return Long.parseLong(getProperty("wait.event.chunk.ms", "1000"));
+    }
+
     /**
      * Page load timeout in seconds.
      */
@@ -97,6 +141,15 @@ public class ConfigReader {
         return Integer.parseInt(getProperty("page.load.timeout", "30"));
     }
     
+    /**
+     * Default page load strategy of navigations: normal, eager or none.
+     * Sessions are created with at most eager and topped up to it; individual navigations may ask for less
+     * (see DriverManager#navigate).
+     */
+    public static String getPageLoadStrategy() {
+        return getProperty("page.load.strategy", "normal");
+    }
+    
     /**
      * Whether to capture screenshots on failures.
      */
@@ -117,4 +170,380 @@ public class ConfigReader {
     public static String getBaseUrl() {
         return getProperty("base.url", "https://www.amazon.com/");
     }
-}
\ No newline at end of file
+    
+    /**
+     * Browser type used by DriverManager. A -Dbrowser system property overrides the config value.
+     */
+    public static String getBrowserType() {
+        return System.getProperty("browser", getBrowser());
+    }
+    
+    /**
+     * Whether sessions are opened on a Selenium Grid / standalone node instead of local browsers.
+     * A -Dgrid.enabled system property overrides the config value.
+     */
+    public static boolean isGridEnabled() {
+        return Boolean.parseBoolean(System.getProperty("grid.enabled", getProperty("grid.enabled", "false")));
+    }
+    
+    /**
+     * Grid or standalone node URL. A -Dgrid.hub.url system property overrides the config value.
+     */
+    public static String getGridHubUrl() {
+        return System.getProperty("grid.hub.url", getProperty("grid.hub.url", "http://localhost:4444"));
+    }
+    
+    /**
+     * Requested browser version on the grid; empty or "latest" leaves the choice to the grid.
+     */
+    public static String getGridBrowserVersion() {
+        return getProperty("grid.browser.version", "latest");
+    }
+    
+    /**
+     * Capability preset for the grid: "grid" (plain Selenium Grid) or "selenoid".
+     */
+    public static String getGridPreset() {
+        return getProperty("grid.preset", "grid");
+    }
+    
+    /**
+     * Whether Selenoid records session videos (selenoid preset only).
+     */
+    public static boolean isGridVideoEnabled() {
+        return Boolean.parseBoolean(System.getProperty("video.enabled", getProperty("grid.video.enabled", "false")));
+    }
+    
+    /**
+     * Grid sessions this JVM may hold at once; 0 means the scenario concurrency maximum.
+     */
+    public static int getGridMaxSessions() {
+        return Integer.parseInt(getProperty("grid.max.sessions", "0"));
+    }
+    
+    /**
+     * How long a scenario may wait in the client queue and for the grid to create its session (seconds).
+     */
+    public static int getGridQueueTimeoutSeconds() {
+        return Integer.parseInt(getProperty("grid.session.queue.timeout.seconds", "300"));
+    }
+    
+    /**
+     * Initial backoff before retrying a refused grid session request (milliseconds); doubles up to 10 s.
+     */
+    public static long getGridRetryBackoffMillis() {
+        return Long.parseLong(getProperty("grid.retry.backoff.ms", "500"));
+    }
+    
+    /**
+     * Whether Chrome scenarios share browser processes, each in its own isolated browser context.
+     */
+    public static boolean isBrowserMultiplexEnabled() {
+        return Boolean.parseBoolean(System.getProperty("browser.multiplex.enabled",
+                getProperty("browser.multiplex.enabled", "false")));
+    }
+    
+    /**
+     * Maximum concurrent scenario contexts hosted by one shared browser process.
+     */
+    public static int getBrowserContextsPerHost() {
+        return Integer.parseInt(getProperty("browser.multiplex.contexts.per.browser", "4"));
+    }
+    
+    /**
+     * Browser profile when no scenario tag selects one: "full" or "fast". A -Dbrowser.profile system property overrides it.
+     */
+    public static String getDefaultBrowserProfile() {
+        return System.getProperty("browser.profile", getProperty("browser.profile.default", "full"));
+    }
+    
+    /**
+     * Comma separated scenario tags that run with the fast functional browser profile.
+     */
+    public static String getFastProfileTags() {
+        return getProperty("browser.profile.fast.tags", "@fast");
+    }
+    
+    /**
+     * Comma separated scenario tags that always keep full visual fidelity; they win over fast tags.
+     */
+    public static String getVisualProfileTags() {
+        return getProperty("browser.profile.visual.tags", "@visual,@responsive-testing,@accessibility");
+    }
+    
+    /**
+     * Maximum renderer processes per browser in the fast functional profile.
+     */
+    public static int getFastRendererProcessLimit() {
+        return Integer.parseInt(getProperty("browser.profile.fast.renderer.limit", "2"));
+    }
+    
+    /**
+     * How long a session may stay silent before a health check sends a real probe command.
+     * While WebDriver commands keep succeeding within this window no extra roundtrip is made.
+     */
+    public static long getHealthSilenceMillis() {
+        return Long.parseLong(getProperty("driver.health.silence.ms", "5000"));
+    }
+    
+    /**
+     * Whether scenarios run in parallel at all; when disabled they run one after another on a single thread.
+     */
+    public static boolean isParallelScenariosEnabled() {
+        return Boolean.parseBoolean(System.getProperty("scenario.parallel.enabled",
+                getProperty("scenario.parallel.enabled", "true")));
+    }
+    
+    /**
+     * Whether the number of concurrent scenarios adapts to CPU, memory and command latency.
+     * When disabled the limit is fixed at {@link #getMaxConcurrency()}.
+     */
+    public static boolean isAdaptiveConcurrencyEnabled() {
+        return Boolean.parseBoolean(System.getProperty("scenario.concurrency.adaptive",
+                getProperty("scenario.concurrency.adaptive", "true")));
+    }
+    
+    /**
+     * Lower bound of concurrent scenarios.
+     */
+    public static int getMinConcurrency() {
+        return Integer.parseInt(getProperty("scenario.concurrency.min", "1"));
+    }
+    
+    /**
+     * Upper bound of concurrent scenarios and size of the scenario thread pool; 0 means the number of cores.
+     */
+    public static int getMaxConcurrency() {
+        return Integer.parseInt(System.getProperty("scenario.concurrency.max",
+                getProperty("scenario.concurrency.max", "0")));
+    }
+    
+    /**
+     * Length of one concurrency evaluation window in seconds.
+     */
+    public static int getConcurrencyWindowSeconds() {
+        return Integer.parseInt(getProperty("scenario.concurrency.window.seconds", "30"));
+    }
+    
+    /**
+     * Assumed browser session memory until real sessions have been measured (MB).
+     */
+    public static int getBrowserMemoryEstimateMb() {
+        return Integer.parseInt(getProperty("scenario.concurrency.browser.memory.mb", "500"));
+    }
+    
+    /**
+     * Memory kept free for the JVM and the OS when sizing concurrency (MB).
+     */
+    public static int getMemoryReserveMb() {
+        return Integer.parseInt(getProperty("scenario.concurrency.memory.reserve.mb", "1024"));
+    }
+    
+    /**
+     * Command p90 growth over the best observed window that triggers a concurrency decrease.
+     */
+    public static double getConcurrencyLatencyFactor() {
+        return Double.parseDouble(getProperty("scenario.concurrency.latency.factor", "1.5"));
+    }
+    
+    /**
+     * Whether launched driver services and browsers are tracked, reaped when orphaned and accounted per session.
+     */
+    public static boolean isProcessReaperEnabled() {
+        return Boolean.parseBoolean(getProperty("process.reaper.enabled", "true"));
+    }
+    
+    /**
+     * How long a quit browser/driver process tree may take to exit before it is killed (milliseconds).
+     */
+    public static long getProcessExitGraceMillis() {
+        return Long.parseLong(getProperty("process.reaper.exit.grace.ms", "3000"));
+    }
+    
+    /**
+     * Interval for sampling RSS/CPU of tracked process trees and detecting stale sessions (milliseconds).
+     */
+    public static long getProcessSampleIntervalMillis() {
+        return Long.parseLong(getProperty("process.reaper.sample.interval.ms", "1000"));
+    }
+    
+    /**
+     * Directory of per-JVM PID ledgers used to reap processes left behind by crashed runs.
+     */
+    public static String getProcessLedgerDirectory() {
+        return getProperty("process.reaper.ledger.dir", "target/process-ledger");
+    }
+    
+    /**
+     * Async script timeout in seconds.
+     */
+    public static int getScriptTimeout() {
+        return Integer.parseInt(getProperty("script.timeout", "30"));
+    }
+
+    /**
+     * Whether all driver sessions send their commands through one shared, pooled HTTP client instead of Selenium's
+     * per-session client. Off by default; a -Dwebdriver.http.shared.client system property overrides it.
+     */
+    public static boolean isSharedHttpClientEnabled() {
+        return Boolean.parseBoolean(System.getProperty("webdriver.http.shared.client",
+                getProperty("webdriver.http.shared.client", "false")));
+    }
+
+    /**
+     * Connect timeout for WebDriver command requests (milliseconds); driver services run on localhost.
+     */
+    public static long getHttpConnectTimeoutMillis() {
+        return Long.parseLong(getProperty("webdriver.http.connect.timeout.ms", "2000"));
+    }
+
+    /**
+     * Extra seconds a command response may take beyond the longest page load, script or implicit wait timeout.
+     */
+    public static int getHttpReadTimeoutMarginSeconds() {
+        return Integer.parseInt(getProperty("webdriver.http.read.timeout.margin.seconds", "15"));
+    }
+
+    /**
+     * How long an idle keep-alive connection to a driver service stays pooled (seconds).
+     */
+    public static int getHttpKeepAliveSeconds() {
+        return Integer.parseInt(getProperty("webdriver.http.keepalive.seconds", "120"));
+    }
+
+    /**
+     * Idle connections kept in the shared pool; 0 sizes it from the scenario concurrency maximum.
+     */
+    public static int getHttpConnectionPoolSize() {
+        return Integer.parseInt(getProperty("webdriver.http.pool.size", "0"));
+    }
+    
+    /**
+     * Whether every WebDriver command should be timed into latency histograms.
+     */
+    public static boolean isCommandMetricsEnabled() {
+        return Boolean.parseBoolean(getProperty("metrics.webdriver.commands.enabled", "true"));
+    }
+    
+    /**
+     * Directory where performance reports (latency percentiles) are written.
+     */
+    public static String getReportDirectory() {
+        return getProperty("report.directory", "target/reports");
+    }
+    
+    /**
+     * Amazon account used by signed-in scenarios. -Damazon.username overrides the config value; empty means guest.
+     */
+    public static String getAccountUsername() {
+        return System.getProperty("amazon.username", getProperty("amazon.username", ""));
+    }
+    
+    /**
+     * Password for {@link #getAccountUsername()}. -Damazon.password or AMAZON_PASSWORD override the config value.
+     */
+    public static String getAccountPassword() {
+        String fromEnv = System.getenv("AMAZON_PASSWORD");
+        return System.getProperty("amazon.password", fromEnv != null ? fromEnv : getProperty("amazon.password", ""));
+    }
+    
+    /**
+     * Directory holding encrypted signed-in session snapshots.
+     */
+    public static String getSessionCacheDirectory() {
+        return getProperty("session.cache.dir", "target/session-cache");
+    }
+    
+    /**
+     * Minutes a cached session is reused before logging in again.
+     */
+    public static int getSessionCacheTtlMinutes() {
+        return Integer.parseInt(getProperty("session.cache.ttl.minutes", "60"));
+    }
+    
+    /**
+     * Comma separated authentication cookie names; the earliest of their expiries caps the cache lifetime.
+     */
+    public static String getSessionAuthCookies() {
+        return getProperty("session.cache.auth.cookies", "at-main,sess-at-main,x-main");
+    }
+    
+    /**
+     * Secret for encrypting the session cache file (SESSION_CACHE_SECRET overrides it).
+     * Empty means a per-run random key, so the file is only reused within one run.
+     */
+    public static String getSessionCacheSecret() {
+        String fromEnv = System.getenv("SESSION_CACHE_SECRET");
+        return fromEnv != null ? fromEnv : getProperty("session.cache.secret", "");
+    }
+    
+    /**
+     * Whether searches navigate straight to the results URL instead of typing into the search box.
+     */
+    public static boolean isDirectSearchEnabled() {
+        return Boolean.parseBoolean(getProperty("search.direct.enabled", "false"));
+    }
+    
+    /**
+     * Comma separated scenario tags that always search through the search box, even with direct search enabled.
+     */
+    public static String getSearchBoxTags() {
+        return getProperty("search.box.tags", "@search-validation,@search-suggestions");
+    }
+    
+    /**
+     * Delay between keystrokes when typing into the search box to capture suggestions.
+     */
+    public static long getSuggestionKeystrokeDelayMillis() {
+        return Long.parseLong(getProperty("search.suggestion.keystroke.delay.ms", "120"));
+    }
+    
+    /**
+     * Maximum milliseconds to wait for the suggestion list after the last keystroke.
+     */
+    public static long getSuggestionTimeoutMillis() {
+        return Long.parseLong(getProperty("search.suggestion.timeout.ms", "3000"));
+    }
+    
+    /**
+     * Number of search result pages the "most expensive product" crawler walks.
+     */
+    public static int getSearchCrawlMaxPages() {
+        return Integer.parseInt(getProperty("search.crawl.max.pages", "3"));
+    }
+    
+    /**
+     * How many extra result pages are fetched in parallel; 1 means pages are visited one by one.
+     */
+    public static int getSearchCrawlConcurrency() {
+        return Integer.parseInt(getProperty("search.crawl.concurrency", "3"));
+    }
+    
+    /**
+     * Maximum seconds a cart mutation waits for the line items or subtotal to change.
+     */
+    public static int getCartMutationTimeout() {
+        return Integer.parseInt(getProperty("cart.mutation.timeout", "10"));
+    }
+    
+    /**
+     * Maximum seconds add-to-cart waits for its first outcome (side sheet, banner, cart page or error).
+     */
+    public static int getAddToCartTimeout() {
+        return Integer.parseInt(getProperty("cart.add.timeout", "10"));
+    }
+    
+    /**
+     * Bulk add-to-cart endpoint used for cart seeding (absolute URL or path relative to base URL).
+     */
+    public static String getCartSeedUrl() {
+        return getProperty("cart.seed.url", "gp/aws/cart/add.html");
+    }
+    
+    /**
+     * Cart page URL (absolute URL or path relative to base URL).
+     */
+    public static String getCartUrl() {
+        return getProperty("cart.url", "gp/cart/view.html");
+    }
+}
@@ -0,0 +1,166 @@
+package com.test.core;
+
+import com.test.pages.SearchResultsPage;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Senaryo kapsamlı, tipli test bağlamı.
+ * Her Cucumber senaryosu için DI konteyneri (cucumber-picocontainer) tarafından bir örnek oluşturulur ve
+ * o senaryonun adım/hook sınıflarına enjekte edilir; yaşam döngüsü thread'e değil senaryoya bağlıdır.
+ * Paralel senaryolar kendi örneklerini kullandığından kilit ya da ThreadLocal gerekmez; değerler alanlarda
+ * tutulur, okuma sırasında global bir harita aranmaz.
+ * <p>
+ * {@link #open} senaryo başlangıcında, {@link #close} bitişinde çağrılır; kapalı bağlama erişim hata verir.
+ */
+public final class TestContext {
+
+    /**
+     * Süre ölçümü için zaman işaretleri.
+     */
+    public enum Mark {
+        SEARCH,
+        PRODUCT_LOAD,
+        CART_OPERATION
+    }
+
+    private static final int MARK_COUNT = Mark.values().length;
+
+    private final long[] marks = new long[MARK_COUNT];
+    private final boolean[] marked = new boolean[MARK_COUNT];
+
+    private boolean open;
+    private String scenarioId;
+    private String scenarioName;
+    private Collection<String> tags = Collections.emptyList();
+    private long openedAtNanos;
+
+    private SearchResultsPage.ProductInfo selectedProduct;
+    private String searchTerm;
+
+    /**
+     * Bağlamı bir senaryo için açar; önceki değerler temizlenir.
+     * @param scenarioId senaryonun benzersiz kimliği
+     * @param scenarioName senaryo adı
+     * @param tags senaryo etiketleri
+     */
+    public void open(String scenarioId, String scenarioName, Collection<String> tags) {
+        reset();
+        this.scenarioId = scenarioId;
+        this.scenarioName = scenarioName;
+        this.tags = Collections.unmodifiableCollection(tags);
+        this.openedAtNanos = System.nanoTime();
+        this.open = true;
+    }
+
+    /**
+     * Senaryo bitişinde bağlamı kapatır ve tüm değerleri bırakır.
+     */
+    public void close() {
+        reset();
+        open = false;
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    public String getScenarioId() {
+        ensureOpen();
+        return scenarioId;
+    }
+
+    public String getScenarioName() {
+        ensureOpen();
+        return scenarioName;
+    }
+
+    public boolean hasTag(String tag) {
+        ensureOpen();
+        return tags.contains(tag);
+    }
+
+    /**
+     * Senaryo etiketleri (değiştirilemez).
+     */
+    public Collection<String> getTags() {
+        ensureOpen();
+        return tags;
+    }
+
+    /**
+     * Senaryonun açılmasından bu yana geçen süre (ms).
+     */
+    public long getScenarioElapsedMillis() {
+        ensureOpen();
+        return (System.nanoTime() - openedAtNanos) / 1_000_000L;
+    }
+
+    // Scenario state
+
+    public SearchResultsPage.ProductInfo getSelectedProduct() {
+        ensureOpen();
+        return selectedProduct;
+    }
+
+    public void setSelectedProduct(SearchResultsPage.ProductInfo selectedProduct) {
+        ensureOpen();
+        this.selectedProduct = selectedProduct;
+    }
+
+    public String getSearchTerm() {
+        ensureOpen();
+        return searchTerm;
+    }
+
+    public void setSearchTerm(String searchTerm) {
+        ensureOpen();
+        this.searchTerm = searchTerm;
+    }
+
+    // Timing marks
+
+    /**
+     * Verilen işaret için başlangıç zamanını kaydeder.
+     */
+    public void mark(Mark mark) {
+        ensureOpen();
+        marks[mark.ordinal()] = System.nanoTime();
+        marked[mark.ordinal()] = true;
+    }
+
+    public boolean hasMark(Mark mark) {
+        ensureOpen();
+        return marked[mark.ordinal()];
+    }
+
+    /**
+     * İşaretten bu yana geçen süre (ms).
+     * @throws IllegalStateException işaret kaydedilmemişse
+     */
+    public long elapsedMillis(Mark mark) {
+        if (!hasMark(mark)) {
+            throw new IllegalStateException("Timing mark " + mark + " was not recorded in scenario: " + scenarioName);
+        }
+        return (System.nanoTime() - marks[mark.ordinal()]) / 1_000_000L;
+    }
+
+    private void ensureOpen() {
+        if (!open) {
+            throw new IllegalStateException("TestContext is not open; it is only available while a scenario runs");
+        }
+    }
+
+    private void reset() {
+        scenarioId = null;
+        scenarioName = null;
+        tags = Collections.emptyList();
+        selectedProduct = null;
+        searchTerm = null;
+        for (int i = 0; i < MARK_COUNT; i++) {
+            marks[i] = 0L;
+            marked[i] = false;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.test.model;
+
+/**
+ * Bir sepet işleminin (miktar güncelleme, silme, sonraya kaydetme) sonucu.
+ * İşlem sonrası satır listesi veya ara toplam değişti mi, değişikliğin ne kadar sürede
+ * gözlemlendiği ve zaman aşımı olup olmadığı bilgisini taşır.
+ */
+public final class CartMutationReport {
+
+    private final String operation;
+    private final int itemIndex;
+    private final boolean changed;
+    private final boolean pageReloaded;
+    private final long observedLatencyMillis;
+    private final long totalMillis;
+
+    public CartMutationReport(String operation, int itemIndex, boolean changed, boolean pageReloaded,
+                              long observedLatencyMillis, long totalMillis) {
+        this.operation = operation;
+        this.itemIndex = itemIndex;
+        this.changed = changed;
+        this.pageReloaded = pageReloaded;
+        this.observedLatencyMillis = observedLatencyMillis;
+        this.totalMillis = totalMillis;
+    }
+
+    public String getOperation() { return operation; }
+    public int getItemIndex() { return itemIndex; }
+    /** Sepet değişikliği gözlemlendi mi (sayfa yenilenmesi de değişiklik sayılır). */
+    public boolean isChanged() { return changed; }
+    /** İşlem AJAX yerine tam sayfa yenilemesiyle tamamlandı mı. */
+    public boolean isPageReloaded() { return pageReloaded; }
+    /** Gözlemci kurulduktan sonra değişikliğin görülmesine kadar geçen süre (ms); değişiklik yoksa -1. */
+    public long getObservedLatencyMillis() { return observedLatencyMillis; }
+    /** İşlemin Java tarafındaki toplam süresi (ms). */
+    public long getTotalMillis() { return totalMillis; }
+    public boolean isTimedOut() { return !changed; }
+
+    @Override
+    public String toString() {
+        return String.format("CartMutationReport{operation='%s', item=%d, changed=%s, reloaded=%s, observed=%d ms, total=%d ms}",
+                operation, itemIndex, changed, pageReloaded, observedLatencyMillis, totalMillis);
+    }
+}
@@ -0,0 +1,122 @@
+package com.test.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sepetin belirli bir andaki değişmez görüntüsü.
+ * Tek bir sayfa içi script ile okunur; satırlar (başlık, birim fiyat, miktar, Prime, teslimat mesajı),
+ * ara toplam ve hata mesajlarını içerir. Doğrulamalar bu nesne üzerinde bellekte yapılır.
+ */
+public final class CartSnapshot {
+
+    private final List<Item> items;
+    private final double subtotal;
+    private final String subtotalText;
+    private final List<String> errors;
+    private final boolean emptyCartShown;
+    private final boolean checkoutAvailable;
+    private final long capturedAtMillis;
+
+    public CartSnapshot(List<Item> items, double subtotal, String subtotalText, List<String> errors,
+                        boolean emptyCartShown, boolean checkoutAvailable) {
+        this.items = Collections.unmodifiableList(new ArrayList<>(items));
+        this.subtotal = subtotal;
+        this.subtotalText = subtotalText;
+        this.errors = Collections.unmodifiableList(new ArrayList<>(errors));
+        this.emptyCartShown = emptyCartShown;
+        this.checkoutAvailable = checkoutAvailable;
+        this.capturedAtMillis = System.currentTimeMillis();
+    }
+
+    public List<Item> getItems() { return items; }
+    public int getItemCount() { return items.size(); }
+    public double getSubtotal() { return subtotal; }
+    public String getSubtotalText() { return subtotalText; }
+    public List<String> getErrors() { return errors; }
+    public boolean hasErrors() { return !errors.isEmpty(); }
+    public boolean isCheckoutAvailable() { return checkoutAvailable; }
+    public long getCapturedAtMillis() { return capturedAtMillis; }
+
+    /**
+     * Sepet boş mu (satır yok ya da boş sepet bölümü görünüyor).
+     */
+    public boolean isEmpty() {
+        return items.isEmpty() || emptyCartShown;
+    }
+
+    /**
+     * Verilen indeksteki satır.
+     */
+    public Item getItem(int index) {
+        if (index < 0 || index >= items.size()) {
+            throw new IndexOutOfBoundsException("Cart item index out of range: " + index);
+        }
+        return items.get(index);
+    }
+
+    public boolean hasPrimeItems() {
+        return items.stream().anyMatch(Item::isPrime);
+    }
+
+    public List<String> getTitles() {
+        List<String> titles = new ArrayList<>(items.size());
+        items.forEach(item -> titles.add(item.getTitle()));
+        return titles;
+    }
+
+    public List<String> getDeliveryMessages() {
+        List<String> messages = new ArrayList<>();
+        for (Item item : items) {
+            if (item.getDeliveryMessage() != null && !item.getDeliveryMessage().isEmpty()) {
+                messages.add(item.getDeliveryMessage());
+            }
+        }
+        return messages;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CartSnapshot{items=%d, subtotal=%.2f, errors=%d, empty=%s}",
+                items.size(), subtotal, errors.size(), isEmpty());
+    }
+
+    /**
+     * Sepetteki tek bir satır.
+     */
+    public static final class Item {
+        private final int index;
+        private final String asin;
+        private final String title;
+        private final double unitPrice;
+        private final int quantity;
+        private final boolean prime;
+        private final String deliveryMessage;
+
+        public Item(int index, String asin, String title, double unitPrice, int quantity, boolean prime, String deliveryMessage) {
+            this.index = index;
+            this.asin = asin;
+            this.title = title;
+            this.unitPrice = unitPrice;
+            this.quantity = quantity;
+            this.prime = prime;
+            this.deliveryMessage = deliveryMessage;
+        }
+
+        public int getIndex() { return index; }
+        public String getAsin() { return asin; }
+        public String getTitle() { return title; }
+        public double getUnitPrice() { return unitPrice; }
+        public int getQuantity() { return quantity; }
+        public boolean isPrime() { return prime; }
+        public String getDeliveryMessage() { return deliveryMessage; }
+        public double getTotalPrice() { return unitPrice * quantity; }
+
+        @Override
+        public String toString() {
+            return String.format("Item{title='%s', unitPrice=%.2f, quantity=%d, prime=%s, asin='%s'}",
+                    title, unitPrice, quantity, prime, asin);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.test.model;
+
+/**
+ * Arama sonucundaki bir ürünün veri modeli.
+ * Ürün, sayfadaki konumuna göre değil Amazon ASIN'i ({@code data-asin}) ile tanımlanır; böylece
+ * DOM yeniden çizilse ya da farklı bir konteyner seçicisi kullanılsa bile aynı ürüne ulaşılır.
+ */
+public class Product {
+
+    private final String name;
+    private final double price;
+    private final String asin;
+
+    public Product(String name, double price, String asin) {
+        this.name = name;
+        this.price = price;
+        this.asin = asin;
+    }
+
+    public String getName() { return name; }
+    public double getPrice() { return price; }
+    public String getAsin() { return asin; }
+
+    @Override
+    public String toString() {
+        return String.format("Product{name='%s', price=%.2f, asin='%s'}", name, price, asin);
+    }
+}
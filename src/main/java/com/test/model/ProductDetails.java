@@ -0,0 +1,58 @@
+package com.test.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ürün detay sayfasından tek seferde okunan bilgiler.
+ * Başlık, fiyat, stok durumu, özellikler, puan, değerlendirme sayısı, Prime ve teslimat bilgisini taşır.
+ */
+public final class ProductDetails {
+
+    private final String asin;
+    private final String title;
+    private final double price;
+    private final String priceText;
+    private final String availability;
+    private final List<String> features;
+    private final String rating;
+    private final int reviewCount;
+    private final boolean primeEligible;
+    private final String deliveryInfo;
+    private final int imageCount;
+
+    public ProductDetails(String asin, String title, double price, String priceText, String availability,
+                          List<String> features, String rating, int reviewCount, boolean primeEligible,
+                          String deliveryInfo, int imageCount) {
+        this.asin = asin;
+        this.title = title;
+        this.price = price;
+        this.priceText = priceText;
+        this.availability = availability;
+        this.features = Collections.unmodifiableList(new ArrayList<>(features));
+        this.rating = rating;
+        this.reviewCount = reviewCount;
+        this.primeEligible = primeEligible;
+        this.deliveryInfo = deliveryInfo;
+        this.imageCount = imageCount;
+    }
+
+    public String getAsin() { return asin; }
+    public String getTitle() { return title; }
+    public double getPrice() { return price; }
+    public String getPriceText() { return priceText; }
+    public String getAvailability() { return availability; }
+    public List<String> getFeatures() { return features; }
+    public String getRating() { return rating; }
+    public int getReviewCount() { return reviewCount; }
+    public boolean isPrimeEligible() { return primeEligible; }
+    public String getDeliveryInfo() { return deliveryInfo; }
+    public int getImageCount() { return imageCount; }
+
+    @Override
+    public String toString() {
+        return String.format("ProductDetails{title='%s', price=%.2f, availability='%s', features=%d, rating='%s', reviews=%d, prime=%s, asin='%s'}",
+                title, price, availability, features.size(), rating, reviewCount, primeEligible, asin);
+    }
+}
@@ -0,0 +1,85 @@
+package com.test.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Arama kutusuna yazım sırasında yakalanan otomatik tamamlama önerileri.
+ * Her tuş vuruşu için ilk öneri listesinin gelme süresini ve yazım sonundaki son listeyi tutar.
+ */
+public final class SuggestionCapture {
+
+    private final String typedText;
+    private final List<Keystroke> keystrokes;
+    private final List<String> finalSuggestions;
+
+    public SuggestionCapture(String typedText, List<Keystroke> keystrokes, List<String> finalSuggestions) {
+        this.typedText = typedText;
+        this.keystrokes = Collections.unmodifiableList(new ArrayList<>(keystrokes));
+        this.finalSuggestions = Collections.unmodifiableList(new ArrayList<>(finalSuggestions));
+    }
+
+    public String getTypedText() { return typedText; }
+    public List<Keystroke> getKeystrokes() { return keystrokes; }
+    public List<String> getFinalSuggestions() { return finalSuggestions; }
+
+    public boolean hasSuggestions() {
+        return !finalSuggestions.isEmpty();
+    }
+
+    /**
+     * Son öneri listesinde verilen metni (büyük/küçük harf duyarsız) içeren öneri var mı.
+     */
+    public boolean containsSuggestion(String text) {
+        String needle = text.toLowerCase();
+        return finalSuggestions.stream().anyMatch(s -> s.toLowerCase().contains(needle));
+    }
+
+    /**
+     * İlk önerinin göründüğü tuş vuruşunun gecikmesi (ms); hiç öneri gelmediyse -1.
+     */
+    public long getTimeToFirstSuggestionMillis() {
+        for (Keystroke keystroke : keystrokes) {
+            if (keystroke.hasSuggestions()) {
+                return keystroke.getLatencyMillis();
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SuggestionCapture{typed='%s', keystrokes=%d, firstSuggestionMs=%d, suggestions=%s}",
+                typedText, keystrokes.size(), getTimeToFirstSuggestionMillis(), finalSuggestions);
+    }
+
+    /**
+     * Tek bir tuş vuruşu: o andaki metin, öneri listesinin güncellenme süresi ve gelen liste.
+     */
+    public static final class Keystroke {
+        private final String prefix;
+        private final long latencyMillis;
+        private final List<String> suggestions;
+
+        public Keystroke(String prefix, long latencyMillis, List<String> suggestions) {
+            this.prefix = prefix;
+            this.latencyMillis = latencyMillis;
+            this.suggestions = Collections.unmodifiableList(new ArrayList<>(suggestions));
+        }
+
+        public String getPrefix() { return prefix; }
+        /** Tuş vuruşundan öneri listesinin değişmesine kadar geçen süre (ms); liste değişmediyse -1. */
+        public long getLatencyMillis() { return latencyMillis; }
+        public List<String> getSuggestions() { return suggestions; }
+
+        public boolean hasSuggestions() {
+            return latencyMillis >= 0 && !suggestions.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Keystroke{prefix='%s', latencyMs=%d, suggestions=%d}", prefix, latencyMillis, suggestions.size());
+        }
+    }
+}
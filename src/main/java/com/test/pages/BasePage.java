@@ -1,5 +1,7 @@
 package com.test.pages;
 
+import com.test.config.ConfigReader;
+import com.test.utils.AdaptiveWait;
 import com.test.utils.CommonUtils;
 import com.test.utils.DriverManager;
 import com.test.utils.WaitUtils;
@@ -28,12 +30,12 @@ public abstract class BasePage {
     
     /**
      * Default constructor using current thread's WebDriver.
-     * Initializes waits, utilities and PageFactory.
+     * Initializes waits (shared per thread and driver), utilities and PageFactory.
      */
     public BasePage() {
         this.driver = DriverManager.getDriver();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        this.waitUtils = new WaitUtils(driver);
+        this.wait = AdaptiveWait.of(driver, Duration.ofSeconds(10));
+        this.waitUtils = WaitUtils.of(driver);
         this.logger = LogManager.getLogger(this.getClass());
         PageFactory.initElements(driver, this);
     }
@@ -44,8 +46,8 @@ public abstract class BasePage {
      */
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        this.waitUtils = new WaitUtils(driver);
+        this.wait = AdaptiveWait.of(driver, Duration.ofSeconds(10));
+        this.waitUtils = WaitUtils.of(driver);
         this.logger = LogManager.getLogger(this.getClass());
         PageFactory.initElements(driver, this);
     }
@@ -203,6 +205,36 @@ public abstract class BasePage {
         }
     }
     
+    /**
+     * URL'e verilen yükleme seviyesiyle gider ve hazırlık elemanı görünene kadar bekler.
+     * Oturumun yükleme stratejisinden bağımsızdır; örneğin {@code EAGER} ile alt kaynaklar beklenmez.
+     * @param url hedef URL
+     * @param strategy bu navigasyonun bekleyeceği yükleme seviyesi
+     * @param readyWhen hedef sayfanın kullanılabilir olduğunu gösteren eleman; null ise yalnızca yükleme seviyesi beklenir
+     * @return hazırlık elemanı süre içinde göründüyse true (bot kontrol sayfası gibi durumlarda false)
+     */
+    protected boolean navigateTo(String url, PageLoadStrategy strategy, By readyWhen) {
+        DriverManager.navigate(driver, url, strategy);
+        if (readyWhen == null) {
+            return true;
+        }
+        try {
+            AdaptiveWait.of(driver, Duration.ofSeconds(ConfigReader.getExplicitWait()))
+                    .until(ExpectedConditions.visibilityOfElementLocated(readyWhen));
+            return true;
+        } catch (TimeoutException e) {
+            logger.warn("Page at {} not ready: {} did not become visible", url, readyWhen);
+            return false;
+        }
+    }
+
+    /**
+     * Geçerli yükleme stratejisiyle URL'e gider ve hazırlık elemanını bekler.
+     */
+    protected boolean navigateTo(String url, By readyWhen) {
+        return navigateTo(url, DriverManager.getPageLoadStrategy(), readyWhen);
+    }
+
     /**
      * Navigates back in browser history.
      */
@@ -1,14 +1,23 @@
 package com.test.pages;
 
+import com.test.config.ConfigReader;
+import com.test.model.CartMutationReport;
+import com.test.model.CartSnapshot;
 import com.test.pages.BasePage;
 import com.test.utils.CommonUtils;
+import com.test.utils.EventWaits;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.ScriptTimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-
-import static com.test.utils.CommonUtils.getSelectedDropdownOption;
+import java.util.Map;
 
 /**
  * Amazon Shopping Cart Page Object Model.
@@ -144,6 +153,87 @@ public class CartPage extends BasePage {
     @FindBy(css = ".a-alert-error")
     private List<WebElement> alertErrors;
     
+    /**
+     * Sepetin tamamını tek seferde okuyan script; {@link CartSnapshot} için ham veri döner.
+     */
+    private static final String CART_SNAPSHOT_JS =
+            "function visible(e) { return !!(e && (e.offsetWidth || e.offsetHeight || e.getClientRects().length)); }" +
+            "function text(root, sel) {" +
+            "  var e = root.querySelector(sel);" +
+            "  return e ? (e.innerText || e.textContent || '').trim() : null;" +
+            "}" +
+            "var items = [];" +
+            "var rows = document.querySelectorAll(\"[data-itemtype='active']\");" +
+            "for (var i = 0; i < rows.length; i++) {" +
+            "  var row = rows[i];" +
+            "  var qty = row.getAttribute('data-quantity');" +
+            "  if (!qty) { var sel = row.querySelector(\"[data-feature-id='quantity-selector'] select, select[name='quantity']\"); qty = sel ? sel.value : null; }" +
+            "  if (!qty) { qty = text(row, \"[data-a-selector='value'], .sc-quantity-stepper [role='spinbutton']\"); }" +
+            "  items.push({" +
+            "    asin: row.getAttribute('data-asin')," +
+            "    title: text(row, '.sc-product-title .a-truncate-full') || text(row, '.sc-product-title')," +
+            "    priceValue: row.getAttribute('data-price')," +
+            "    priceText: text(row, '.sc-product-price') || text(row, '.sc-price')," +
+            "    quantity: qty," +
+            "    prime: !!row.querySelector('.sc-badge-prime, .a-icon-prime')," +
+            "    delivery: text(row, '.sc-delivery-messaging')" +
+            "  });" +
+            "}" +
+            "var subtotal = null;" +
+            "['#sc-subtotal-amount-activecart', '#sc-subtotal-amount-buybox'].forEach(function (sel) {" +
+            "  var e = document.querySelector(sel);" +
+            "  if (subtotal === null && visible(e)) { subtotal = e.innerText.trim(); }" +
+            "});" +
+            "var errors = [];" +
+            "document.querySelectorAll('.sc-list-item-error, .a-alert-error').forEach(function (e) {" +
+            "  var t = visible(e) ? e.innerText.trim() : '';" +
+            "  if (t) { errors.push(t); }" +
+            "});" +
+            "var checkout = ['[name=\"proceedToRetailCheckout\"]', '#sc-buy-box-ptc-button', '#attach-sidesheet-checkout-button']" +
+            "  .some(function (sel) { var e = document.querySelector(sel); return visible(e) && !e.disabled; });" +
+            "return {items: items, subtotal: subtotal, errors: errors," +
+            "        emptyCart: visible(document.querySelector('#sc-empty-cart')), checkout: checkout};";
+
+    /**
+     * Sepet imzası (satır ASIN/miktar listesi + ara toplam) değişince işaretlenen gözlemciyi kurar.
+     */
+    private static final String ARM_CART_WATCH_JS =
+            "function signature() {" +
+            "  var rows = document.querySelectorAll(\"[data-itemtype='active']\"), parts = [];" +
+            "  for (var i = 0; i < rows.length; i++) { parts.push(rows[i].getAttribute('data-asin') + ':' + rows[i].getAttribute('data-quantity')); }" +
+            "  var sub = document.querySelector('#sc-subtotal-amount-activecart') || document.querySelector('#sc-subtotal-amount-buybox');" +
+            "  return parts.join('|') + '#' + (sub ? sub.textContent.trim() : '');" +
+            "}" +
+            "if (window.__cartWatch && window.__cartWatch.observer) { window.__cartWatch.observer.disconnect(); }" +
+            "var watch = {armedAt: performance.now(), baseline: signature(), changedAt: null};" +
+            "watch.observer = new MutationObserver(function () {" +
+            "  if (watch.changedAt === null && signature() !== watch.baseline) {" +
+            "    watch.changedAt = performance.now();" +
+            "    watch.observer.disconnect();" +
+            "  }" +
+            "});" +
+            "watch.observer.observe(document.querySelector('#sc-active-cart') || document.body," +
+            "  {childList: true, subtree: true, characterData: true, attributes: true});" +
+            "window.__cartWatch = watch;";
+    
+    /**
+     * Kurulmuş gözlemcinin değişiklik bildirmesini ya da zaman aşımını bekler.
+     * Gözlemci yoksa sayfa yenilenmiştir.
+     */
+    private static final String AWAIT_CART_WATCH_JS =
+            "var timeout = arguments[0], done = arguments[arguments.length - 1];" +
+            "var watch = window.__cartWatch;" +
+            "if (!watch) { done({reloaded: true}); return; }" +
+            "var deadline = performance.now() + timeout;" +
+            "(function poll() {" +
+            "  if (watch.changedAt !== null) { done({changed: true, latency: Math.round(watch.changedAt - watch.armedAt)}); return; }" +
+            "  if (performance.now() >= deadline) { watch.observer.disconnect(); done({changed: false}); return; }" +
+            "  setTimeout(poll, 25);" +
+            "})();";
+    
+    /** Son okunan sepet görüntüsü; sepeti değiştiren her işlemde sıfırlanır. */
+    private CartSnapshot snapshot;
+
     // Constructor
     public CartPage(WebDriver driver) {
         super(driver);
@@ -174,6 +264,76 @@ public class CartPage extends BasePage {
         logger.debug("Cart page loaded");
     }
     
+    // Snapshot Methods
+    
+    /**
+     * Sepetin güncel görüntüsünü döner; önbellekte yoksa tek script çağrısıyla okur.
+     */
+    public CartSnapshot getSnapshot() {
+        if (snapshot == null) {
+            snapshot = captureSnapshot();
+        }
+        return snapshot;
+    }
+    
+    /**
+     * Önbelleği yok sayarak sepeti yeniden okur.
+     */
+    public CartSnapshot refreshSnapshot() {
+        invalidateSnapshot();
+        return getSnapshot();
+    }
+    
+    /**
+     * Önbellekteki görüntüyü geçersiz kılar; bir sonraki okuma sayfadan yapılır.
+     */
+    public void invalidateSnapshot() {
+        snapshot = null;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private CartSnapshot captureSnapshot() {
+        Map<String, Object> raw = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(CART_SNAPSHOT_JS);
+        
+        List<CartSnapshot.Item> items = new ArrayList<>();
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) raw.get("items");
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, Object> row = rows.get(i);
+            String title = row.get("title") != null ? (String) row.get("title") : "Unknown Product";
+            items.add(new CartSnapshot.Item(i, (String) row.get("asin"), title,
+                    parsePrice((String) row.get("priceValue"), (String) row.get("priceText")),
+                    parseQuantity((String) row.get("quantity")),
+                    Boolean.TRUE.equals(row.get("prime")),
+                    (String) row.get("delivery")));
+        }
+        
+        String subtotalText = (String) raw.get("subtotal");
+        double subtotal = subtotalText != null ? CommonUtils.extractPriceFromText(subtotalText) : 0.0;
+        
+        CartSnapshot captured = new CartSnapshot(items, subtotal, subtotalText,
+                (List<String>) raw.get("errors"),
+                Boolean.TRUE.equals(raw.get("emptyCart")),
+                Boolean.TRUE.equals(raw.get("checkout")));
+        logger.debug("Captured {}", captured);
+        return captured;
+    }
+    
+    private static double parsePrice(String priceValue, String priceText) {
+        if (priceValue != null && !priceValue.trim().isEmpty()) {
+            try {
+                return Double.parseDouble(priceValue.trim());
+            } catch (NumberFormatException ignored) {
+                // fall back to the displayed price
+            }
+        }
+        return CommonUtils.extractPriceFromText(priceText);
+    }
+    
+    private static int parseQuantity(String quantity) {
+        String digits = CommonUtils.extractNumbers(quantity);
+        return digits.isEmpty() ? 1 : Integer.parseInt(digits); // Default quantity
+    }
+    
     // Cart Status Methods
     
     /**
@@ -181,7 +341,7 @@ public class CartPage extends BasePage {
      * @return boş ise true
      */
     public boolean isCartEmpty() {
-        boolean isEmpty = cartItems.isEmpty() || isElementDisplayed(emptyCartSection);
+        boolean isEmpty = getSnapshot().isEmpty();
         logger.info("Cart is empty: {}", isEmpty);
         return isEmpty;
     }
@@ -190,7 +350,7 @@ public class CartPage extends BasePage {
      * Sepetteki öğe sayısını döner.
      */
     public int getCartItemCount() {
-        int count = cartItems.size();
+        int count = getSnapshot().getItemCount();
         logger.info("Cart item count: {}", count);
         return count;
     }
@@ -199,27 +359,7 @@ public class CartPage extends BasePage {
      * Sepet ara toplam tutarını döner.
      */
     public double getCartSubtotal() {
-        double subtotal = 0.0;
-        
-        try {
-            String subtotalText = "";
-            
-            // Try different subtotal element locations
-            if (isElementDisplayed(subtotalAmount)) {
-                subtotalText = getText(subtotalAmount);
-            }
-            else if (isElementDisplayed(buyboxSubtotalAmount)) {
-                subtotalText = getText(buyboxSubtotalAmount);
-            }
-            
-            if (!subtotalText.isEmpty()) {
-                subtotal = CommonUtils.extractPriceFromText(subtotalText);
-            }
-            
-        } catch (Exception e) {
-            logger.warn("Could not get cart subtotal: {}", e.getMessage());
-        }
-        
+        double subtotal = getSnapshot().getSubtotal();
         logger.info("Cart subtotal: ${}", subtotal);
         return subtotal;
     }
@@ -228,18 +368,8 @@ public class CartPage extends BasePage {
      * Sepet ara toplamını biçimlendirilmiş metin olarak döner.
      */
     public String getCartSubtotalText() {
-        try {
-            if (isElementDisplayed(subtotalAmount)) {
-                return getText(subtotalAmount);
-            }
-            else if (isElementDisplayed(buyboxSubtotalAmount)) {
-                return getText(buyboxSubtotalAmount);
-            }
-        } catch (Exception e) {
-            logger.debug("Could not get formatted subtotal text: {}", e.getMessage());
-        }
-        
-        return String.format("$%.2f", getCartSubtotal());
+        String subtotalText = getSnapshot().getSubtotalText();
+        return subtotalText != null ? subtotalText : String.format("$%.2f", getCartSubtotal());
     }
     
     // Item Verification Methods
@@ -248,14 +378,11 @@ public class CartPage extends BasePage {
      * Başlığa göre belirli ürünün sepette olup olmadığını doğrular.
      */
     public boolean isProductInCart(String productTitle) {
-        for (WebElement titleElement : itemTitles) {
-            if (isElementDisplayed(titleElement)) {
-                String itemTitle = getText(titleElement);
-                if (CommonUtils.containsAnyKeyword(itemTitle.toLowerCase(), 
-                        productTitle.toLowerCase().split("\\s+"))) {
-                    logger.info("Product found in cart: {}", productTitle);
-                    return true;
-                }
+        String[] keywords = productTitle.toLowerCase().split("\\s+");
+        for (String itemTitle : getSnapshot().getTitles()) {
+            if (CommonUtils.containsAnyKeyword(itemTitle.toLowerCase(), keywords)) {
+                logger.info("Product found in cart: {}", productTitle);
+                return true;
             }
         }
         
@@ -267,13 +394,10 @@ public class CartPage extends BasePage {
      * Sepette herhangi bir MacBook Pro ürünü olup olmadığını kontrol eder.
      */
     public boolean isMacBookProInCart() {
-        for (WebElement titleElement : itemTitles) {
-            if (isElementDisplayed(titleElement)) {
-                String itemTitle = getText(titleElement).toLowerCase();
-                if (CommonUtils.containsAnyKeyword(itemTitle, "macbook pro", "macbook")) {
-                    logger.info("MacBook Pro found in cart: {}", itemTitle);
-                    return true;
-                }
+        for (String itemTitle : getSnapshot().getTitles()) {
+            if (CommonUtils.containsAnyKeyword(itemTitle.toLowerCase(), "macbook pro", "macbook")) {
+                logger.info("MacBook Pro found in cart: {}", itemTitle);
+                return true;
             }
         }
         
@@ -285,11 +409,7 @@ public class CartPage extends BasePage {
      * Sepetteki tüm öğe başlıklarını döner.
      */
     public List<String> getCartItemTitles() {
-        List<String> titles = itemTitles.stream()
-                .filter(this::isElementDisplayed)
-                .map(this::getText)
-                .collect(java.util.stream.Collectors.toList());
-        
+        List<String> titles = getSnapshot().getTitles();
         logger.debug("Cart item titles: {}", titles);
         return titles;
     }
@@ -298,15 +418,10 @@ public class CartPage extends BasePage {
      * Sepetteki tüm öğe fiyatlarını döner.
      */
     public List<Double> getCartItemPrices() {
-        List<Double> prices = new java.util.ArrayList<>();
-        
-        for (WebElement priceElement : itemPriceElements) {
-            if (isElementDisplayed(priceElement)) {
-                String priceText = getText(priceElement);
-                double price = CommonUtils.extractPriceFromText(priceText);
-                if (price > 0) {
-                    prices.add(price);
-                }
+        List<Double> prices = new ArrayList<>();
+        for (CartSnapshot.Item item : getSnapshot().getItems()) {
+            if (item.getUnitPrice() > 0) {
+                prices.add(item.getUnitPrice());
             }
         }
         
@@ -318,7 +433,7 @@ public class CartPage extends BasePage {
      * Sepetteki ilk öğenin detaylarını döner.
      */
     public CartItemInfo getFirstCartItem() {
-        if (cartItems.isEmpty()) {
+        if (getSnapshot().getItemCount() == 0) {
             logger.warn("No items in cart");
             return null;
         }
@@ -330,22 +445,8 @@ public class CartPage extends BasePage {
      * Verilen indeks için öğe detaylarını döner.
      */
     public CartItemInfo getCartItem(int index) {
-        if (index < 0 || index >= cartItems.size()) {
-            throw new IndexOutOfBoundsException("Cart item index out of range: " + index);
-        }
-        
-        String title = index < itemTitles.size() && isElementDisplayed(itemTitles.get(index)) 
-                ? getText(itemTitles.get(index)) : "Unknown Product";
-        
-        double price = 0.0;
-        if (index < itemPriceElements.size() && isElementDisplayed(itemPriceElements.get(index))) {
-            String priceText = getText(itemPriceElements.get(index));
-            price = CommonUtils.extractPriceFromText(priceText);
-        }
-        
-        int quantity = getItemQuantity(index);
-        
-        CartItemInfo itemInfo = new CartItemInfo(title, price, quantity, index);
+        CartSnapshot.Item item = getSnapshot().getItem(index);
+        CartItemInfo itemInfo = new CartItemInfo(item.getTitle(), item.getUnitPrice(), item.getQuantity(), index);
         logger.debug("Cart item {}: {}", index, itemInfo);
         
         return itemInfo;
@@ -357,50 +458,42 @@ public class CartPage extends BasePage {
      * Verilen öğe indeksinin miktarını döner.
      */
     public int getItemQuantity(int itemIndex) {
-        try {
-            if (itemIndex >= 0 && itemIndex < quantitySelectors.size()) {
-                WebElement quantityElement = quantitySelectors.get(itemIndex);
-                if (isElementDisplayed(quantityElement)) {
-                    String quantity = getSelectedDropdownOption(quantityElement);
-                    return Integer.parseInt(quantity);
-                }
-            }
-        } catch (Exception e) {
-            logger.debug("Could not get item quantity for index {}: {}", itemIndex, e.getMessage());
+        CartSnapshot current = getSnapshot();
+        if (itemIndex >= 0 && itemIndex < current.getItemCount()) {
+            return current.getItem(itemIndex).getQuantity();
         }
-        
+        logger.debug("Could not get item quantity for index {}", itemIndex);
         return 1; // Default quantity
     }
     
     /**
-     * Verilen öğenin miktarını günceller.
+     * Verilen öğenin miktarını günceller ve sepet değişikliğini bekler.
      */
-    public void updateItemQuantity(int itemIndex, int newQuantity) {
+    public CartMutationReport updateItemQuantity(int itemIndex, int newQuantity) {
         if (newQuantity < 0) newQuantity = 0;
         if (newQuantity > 30) newQuantity = 30; // Amazon typical limit
         
         logger.info("Updating item {} quantity to: {}", itemIndex, newQuantity);
         
-        try {
-            if (itemIndex >= 0 && itemIndex < quantitySelectors.size()) {
-                WebElement quantityElement = quantitySelectors.get(itemIndex);
-                if (isElementDisplayed(quantityElement)) {
-                    selectDropdownByValue(quantityElement, String.valueOf(newQuantity));
-                    CommonUtils.waitFor(2); // Wait for price update
-                    logger.info("Updated item quantity successfully");
-                }
-            }
-        } catch (Exception e) {
-            logger.error("Failed to update item quantity: {}", e.getMessage());
+        if (itemIndex < 0 || itemIndex >= quantitySelectors.size() || !isElementDisplayed(quantitySelectors.get(itemIndex))) {
+            logger.error("Failed to update item quantity: no visible quantity selector for index {}", itemIndex);
+            return new CartMutationReport("updateQuantity", itemIndex, false, false, -1, 0);
         }
+        
+        WebElement quantityElement = quantitySelectors.get(itemIndex);
+        String value = String.valueOf(newQuantity);
+        CartMutationReport report = mutateCart("updateQuantity", itemIndex,
+                () -> selectDropdownByValue(quantityElement, value));
+        logger.info("Updated item quantity: {}", report);
+        return report;
     }
     
     // Item Actions Methods
     
     /**
-     * Öğeyi sepetten kaldırır.
+     * Öğeyi sepetten kaldırır ve sepet değişikliğini bekler.
      */
-    public void removeItem(int itemIndex) {
+    public CartMutationReport removeItem(int itemIndex) {
         if (itemIndex < 0 || itemIndex >= deleteButtons.size()) {
             throw new IndexOutOfBoundsException("Delete button index out of range: " + itemIndex);
         }
@@ -408,18 +501,16 @@ public class CartPage extends BasePage {
         logger.info("Removing item from cart: index {}", itemIndex);
         
         WebElement deleteButton = deleteButtons.get(itemIndex);
-        click(deleteButton);
-        
-        CommonUtils.waitFor(2); // Wait for item removal
-        waitUtils.waitForPageToLoad();
+        CartMutationReport report = mutateCart("remove", itemIndex, () -> click(deleteButton));
         
-        logger.info("Item removed from cart successfully");
+        logger.info("Item removed from cart: {}", report);
+        return report;
     }
     
     /**
-     * Öğeyi daha sonra için kaydeder.
+     * Öğeyi daha sonra için kaydeder ve sepet değişikliğini bekler.
      */
-    public void saveItemForLater(int itemIndex) {
+    public CartMutationReport saveItemForLater(int itemIndex) {
         if (itemIndex < 0 || itemIndex >= saveForLaterButtons.size()) {
             throw new IndexOutOfBoundsException("Save for later button index out of range: " + itemIndex);
         }
@@ -427,10 +518,59 @@ public class CartPage extends BasePage {
         logger.info("Saving item for later: index {}", itemIndex);
         
         WebElement saveButton = saveForLaterButtons.get(itemIndex);
-        click(saveButton);
+        CartMutationReport report = mutateCart("saveForLater", itemIndex, () -> click(saveButton));
         
-        CommonUtils.waitFor(2); // Wait for action to complete
-        logger.info("Item saved for later successfully");
+        logger.info("Item saved for later: {}", report);
+        return report;
+    }
+    
+    /**
+     * Sepet işlemini gözlemci ile sarar: önce aktif sepet konteynerine MutationObserver kurulur,
+     * ardından işlem yapılır ve satır listesi ya da ara toplam değişene (veya zaman aşımına) kadar
+     * sayfa içinde beklenir. AJAX yerine sayfa yenilenirse bu da değişiklik sayılır.
+     */
+    @SuppressWarnings("unchecked")
+    private CartMutationReport mutateCart(String operation, int itemIndex, Runnable action) {
+        long start = System.currentTimeMillis();
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        js.executeScript(ARM_CART_WATCH_JS);
+        
+        try {
+            action.run();
+        } finally {
+            invalidateSnapshot();
+        }
+        
+        // Script timeout'unu aşmamak için bekleme bir saniye kısa tutulur
+        long timeoutMillis = Math.max(1000L, Math.min(ConfigReader.getCartMutationTimeout(), ConfigReader.getScriptTimeout() - 1) * 1000L);
+        Map<String, Object> result;
+        try {
+            result = (Map<String, Object>) js.executeAsyncScript(AWAIT_CART_WATCH_JS, timeoutMillis);
+        } catch (ScriptTimeoutException e) {
+            logger.debug("Cart watch exceeded the script timeout: {}", e.getMessage());
+            result = Collections.<String, Object>singletonMap("changed", false);
+        } catch (WebDriverException e) {
+            if (!EventWaits.isDocumentSwitch(e)) {
+                throw e;
+            }
+            // Navigation during the async script (non-AJAX cart) aborts it
+            logger.debug("Cart watch interrupted by navigation: {}", e.getMessage());
+            result = null;
+        }
+        
+        boolean reloaded = result == null || Boolean.TRUE.equals(result.get("reloaded"));
+        if (reloaded) {
+            waitUtils.waitForPageToLoad();
+        }
+        boolean changed = reloaded || Boolean.TRUE.equals(result.get("changed"));
+        long observed = result != null && result.get("latency") != null
+                ? ((Number) result.get("latency")).longValue() : -1;
+        CartMutationReport report = new CartMutationReport(operation, itemIndex, changed, reloaded,
+                observed, System.currentTimeMillis() - start);
+        if (report.isTimedOut()) {
+            logger.warn("Cart did not change within {} ms after {}", timeoutMillis, operation);
+        }
+        return report;
     }
     
     // Checkout Methods
@@ -440,6 +580,7 @@ public class CartPage extends BasePage {
      */
     public boolean proceedToCheckout() {
         logger.info("Proceeding to checkout");
+        invalidateSnapshot();
         
         try {
             // Try different checkout button locations
@@ -473,10 +614,7 @@ public class CartPage extends BasePage {
      * Ödeme adımına geçiş yapılabilir mi kontrol eder.
      */
     public boolean isCheckoutAvailable() {
-        boolean available = (isElementDisplayed(proceedToCheckoutButton) && isElementEnabled(proceedToCheckoutButton)) ||
-                           (isElementDisplayed(checkoutButton) && isElementEnabled(checkoutButton)) ||
-                           (isElementDisplayed(sidesheetCheckoutButton) && isElementEnabled(sidesheetCheckoutButton));
-        
+        boolean available = getSnapshot().isCheckoutAvailable();
         logger.debug("Checkout available: {}", available);
         return available;
     }
@@ -491,7 +629,7 @@ public class CartPage extends BasePage {
             click(continueShoppingButton);
         } else {
             // Navigate to homepage directly
-            driver.get(com.test.config.ConfigReader.getBaseUrl());
+            navigateTo(com.test.config.ConfigReader.getBaseUrl(), PageLoadStrategy.EAGER, null);
         }
         
         waitUtils.waitForPageToLoad();
@@ -536,8 +674,7 @@ public class CartPage extends BasePage {
      * Prime kargoya sahip öğe var mı kontrol eder.
      */
     public boolean hassPrimeItems() {
-        boolean hasPrime = !primeBadges.isEmpty() && 
-                          primeBadges.stream().anyMatch(this::isElementDisplayed);
+        boolean hasPrime = getSnapshot().hasPrimeItems();
         logger.debug("Cart has Prime items: {}", hasPrime);
         return hasPrime;
     }
@@ -546,11 +683,7 @@ public class CartPage extends BasePage {
      * Sepet öğeleri için teslimat mesajlarını döner.
      */
     public List<String> getDeliveryMessages() {
-        List<String> messages = deliveryMessages.stream()
-                .filter(this::isElementDisplayed)
-                .map(this::getText)
-                .collect(java.util.stream.Collectors.toList());
-        
+        List<String> messages = getSnapshot().getDeliveryMessages();
         logger.debug("Delivery messages: {}", messages);
         return messages;
     }
@@ -561,9 +694,7 @@ public class CartPage extends BasePage {
      * Hata mesajı var mı kontrol eder.
      */
     public boolean hasErrors() {
-        boolean hasErrors = (!errorMessages.isEmpty() && errorMessages.stream().anyMatch(this::isElementDisplayed)) ||
-                           (!alertErrors.isEmpty() && alertErrors.stream().anyMatch(this::isElementDisplayed));
-        
+        boolean hasErrors = getSnapshot().hasErrors();
         logger.debug("Cart has errors: {}", hasErrors);
         return hasErrors;
     }
@@ -572,18 +703,7 @@ public class CartPage extends BasePage {
      * Tüm hata mesajlarını döner.
      */
     public List<String> getErrorMessages() {
-        List<String> errors = new java.util.ArrayList<>();
-        
-        errorMessages.stream()
-                .filter(this::isElementDisplayed)
-                .map(this::getText)
-                .forEach(errors::add);
-        
-        alertErrors.stream()
-                .filter(this::isElementDisplayed)
-                .map(this::getText)
-                .forEach(errors::add);
-        
+        List<String> errors = getSnapshot().getErrors();
         logger.debug("Error messages: {}", errors);
         return errors;
     }
@@ -601,21 +721,19 @@ public class CartPage extends BasePage {
      * Sepetin özet bilgisini metin olarak döner.
      */
     public String getCartSummary() {
+        CartSnapshot current = getSnapshot();
         StringBuilder summary = new StringBuilder();
         summary.append("=== CART SUMMARY ===\n");
-        summary.append("Items in cart: ").append(getCartItemCount()).append("\n");
-        summary.append("Cart subtotal: $").append(getCartSubtotal()).append("\n");
-        summary.append("Cart is empty: ").append(isCartEmpty()).append("\n");
-        summary.append("Has Prime items: ").append(hassPrimeItems()).append("\n");
-        summary.append("Checkout available: ").append(isCheckoutAvailable()).append("\n");
+        summary.append("Items in cart: ").append(current.getItemCount()).append("\n");
+        summary.append("Cart subtotal: $").append(current.getSubtotal()).append("\n");
+        summary.append("Cart is empty: ").append(current.isEmpty()).append("\n");
+        summary.append("Has Prime items: ").append(current.hasPrimeItems()).append("\n");
+        summary.append("Checkout available: ").append(current.isCheckoutAvailable()).append("\n");
         
-        if (!isCartEmpty()) {
+        if (!current.isEmpty()) {
             summary.append("\nItems:\n");
-            List<String> titles = getCartItemTitles();
-            List<Double> prices = getCartItemPrices();
-            
-            for (int i = 0; i < Math.min(titles.size(), prices.size()); i++) {
-                summary.append(String.format("%d. %s - $%.2f\n", i + 1, titles.get(i), prices.get(i)));
+            for (CartSnapshot.Item item : current.getItems()) {
+                summary.append(String.format("%d. %s - $%.2f\n", item.getIndex() + 1, item.getTitle(), item.getUnitPrice()));
             }
         }
         
@@ -1,13 +1,23 @@
 package com.test.pages;
 
+import com.test.config.ConfigReader;
+import com.test.model.SuggestionCapture;
+import com.test.utils.AdaptiveWait;
 import com.test.utils.CommonUtils;
+import com.test.utils.PerformanceMonitor;
+import com.test.utils.SearchUrlBuilder;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Amazon Ana Sayfa Page Object.
@@ -63,6 +73,76 @@ public class HomePage extends BasePage {
     private final By botCheckHints = By.xpath("//*[contains(translate(., 'AREYOUROBOTENTERCHARACTERS', 'areyourobotentercharacters'), 'are you a robot') or " +
             "contains(translate(., 'ENTERCHARACTERS', 'entercharacters'), 'enter the characters')]");
 
+    /** Otomatik tamamlama öneri elemanları ve her birinin metni. */
+    private static final String SUGGESTION_HELPERS_JS =
+            "function readSuggestions() {" +
+            "  var items = document.querySelectorAll('#nav-flyout-searchAjax .s-suggestion, .s-suggestion-container .s-suggestion');" +
+            "  var texts = [];" +
+            "  for (var i = 0; i < items.length; i++) {" +
+            "    var t = (items[i].getAttribute('aria-label') || items[i].innerText || '').trim();" +
+            "    if (t && texts.indexOf(t) < 0) { texts.push(t); }" +
+            "  }" +
+            "  return texts;" +
+            "}";
+
+    /**
+     * Arama kutusuna öneri gözlemcisi kurar. Her input olayı bir tuş vuruşu kaydı açar; öneri listesi
+     * değiştiğinde (MutationObserver) son kaydın ilk-öneri zamanı ve listesi yazılır.
+     */
+    private static final String ARM_SUGGESTION_WATCH_JS = SUGGESTION_HELPERS_JS +
+            "var box = arguments[0];" +
+            "var old = window.__suggestWatch;" +
+            "if (old) { old.observer.disconnect(); old.box.removeEventListener('input', old.onInput); }" +
+            "var watch = {box: box, keystrokes: [], last: readSuggestions().join('\\n')};" +
+            "watch.onInput = function () {" +
+            "  watch.keystrokes.push({prefix: box.value, at: performance.now(), firstAt: null, suggestions: []});" +
+            "};" +
+            "watch.observer = new MutationObserver(function () {" +
+            "  var current = readSuggestions(), key = current.join('\\n');" +
+            "  if (key === watch.last) { return; }" +
+            "  watch.last = key;" +
+            "  var k = watch.keystrokes[watch.keystrokes.length - 1];" +
+            "  if (k && k.firstAt === null && current.length) { k.firstAt = performance.now(); k.suggestions = current; }" +
+            "});" +
+            "watch.observer.observe(document.body, {childList: true, subtree: true, characterData: true});" +
+            "box.addEventListener('input', watch.onInput);" +
+            "window.__suggestWatch = watch;";
+
+    /**
+     * Son tuş vuruşunun öneri listesini ya da zaman aşımını bekler, sonra gözlemciyi kaldırıp kayıtları döner.
+     */
+    private static final String COLLECT_SUGGESTION_WATCH_JS = SUGGESTION_HELPERS_JS +
+            "var timeout = arguments[0], done = arguments[arguments.length - 1];" +
+            "var watch = window.__suggestWatch;" +
+            "if (!watch) { done(null); return; }" +
+            "var deadline = performance.now() + timeout;" +
+            "(function poll() {" +
+            "  var k = watch.keystrokes[watch.keystrokes.length - 1];" +
+            "  if ((k && k.firstAt !== null) || performance.now() >= deadline) {" +
+            "    watch.observer.disconnect();" +
+            "    watch.box.removeEventListener('input', watch.onInput);" +
+            "    window.__suggestWatch = null;" +
+            "    done({" +
+            "      keystrokes: watch.keystrokes.map(function (e) {" +
+            "        return {prefix: e.prefix, latency: e.firstAt === null ? -1 : Math.round(e.firstAt - e.at), suggestions: e.suggestions};" +
+            "      })," +
+            "      suggestions: readSuggestions()" +
+            "    });" +
+            "    return;" +
+            "  }" +
+            "  setTimeout(poll, 25);" +
+            "})();";
+
+    /** Metni içeren ilk öneriye tıklar; bulunamazsa false döner. */
+    private static final String CLICK_SUGGESTION_JS = SUGGESTION_HELPERS_JS +
+            "var needle = arguments[0].toLowerCase();" +
+            "var items = document.querySelectorAll('#nav-flyout-searchAjax .s-suggestion, .s-suggestion-container .s-suggestion');" +
+            "for (var i = 0; i < items.length; i++) {" +
+            "  var t = (items[i].getAttribute('aria-label') || items[i].innerText || '').toLowerCase();" +
+            "  if (t.indexOf(needle) >= 0) { items[i].click(); return true; }" +
+            "}" +
+            "return false;";
+
     /**
      * Varsayılan yapıcı; mevcut sürücüyü kullanır.
      */
@@ -79,7 +159,7 @@ public class HomePage extends BasePage {
     }
 
     private WebDriverWait shortWait() {
-        return new WebDriverWait(driver, Duration.ofSeconds(6));
+        return AdaptiveWait.of(driver, Duration.ofSeconds(6));
     }
 
     /**
@@ -156,6 +236,54 @@ public class HomePage extends BasePage {
         }
     }
     
+    /**
+     * Yapılandırmaya göre arama yapar: {@code search.direct.enabled=true} ise sonuç URL'ine doğrudan gider,
+     * değilse arama kutusuna yazar.
+     * @param searchTerm aranacak metin
+     */
+    public SearchResultsPage search(String searchTerm) {
+        return search(searchTerm, Collections.emptyList());
+    }
+
+    /**
+     * Senaryo etiketlerine göre arama yapar: arama kutusunu test eden senaryolar ({@code search.box.tags})
+     * doğrudan arama açık olsa da kutuya yazar.
+     * @param searchTerm aranacak metin
+     * @param scenarioTags senaryo etiketleri ({@code @} ile)
+     */
+    public SearchResultsPage search(String searchTerm, Collection<String> scenarioTags) {
+        if (ConfigReader.isDirectSearchEnabled() && !usesSearchBox(scenarioTags)) {
+            return searchDirect(SearchUrlBuilder.forKeyword(searchTerm));
+        }
+        searchFor(searchTerm);
+        return new SearchResultsPage(driver);
+    }
+
+    private static boolean usesSearchBox(Collection<String> scenarioTags) {
+        return Arrays.stream(ConfigReader.getSearchBoxTags().split(","))
+                .map(String::trim)
+                .anyMatch(tag -> !tag.isEmpty() && scenarioTags.contains(tag));
+    }
+
+    /**
+     * Arama kutusunu kullanmadan sonuç sayfasına tek navigasyonla gider.
+     * @param query anahtar kelime ve isteğe bağlı sıralama
+     */
+    public SearchResultsPage searchDirect(SearchUrlBuilder query) {
+        String url = query.build();
+        logger.info("Searching directly for: {} ({})", query.getKeyword(), url);
+        // Bot ekranı olabileceğinden hazırlık elemanı burada beklenmez; SearchResultsPage kendi sonuç listesini bekler
+        navigateTo(url, PageLoadStrategy.EAGER, null);
+
+        // Bot ekranı geçildiyse arama sayfasına tekrar git
+        handleBotCheckIfPresent();
+        if (!driver.getCurrentUrl().contains("/s?")) {
+            logger.debug("Not on results page after bot check, navigating again");
+            navigateTo(url, PageLoadStrategy.EAGER, SearchResultsPage.READY);
+        }
+        return new SearchResultsPage(driver);
+    }
+
     /**
      * Find the active search box using multiple locator strategies
      */
@@ -218,6 +346,77 @@ public class HomePage extends BasePage {
         return null;
     }
 
+    /**
+     * Arama kutusuna metni yapılandırılmış aralıkla harf harf yazar ve otomatik tamamlama önerilerini
+     * sayfa içi gözlemciyle toplar. Her tuş vuruşunun ilk-öneri süresi PerformanceMonitor'e yazılır.
+     * @param text yazılacak metin (arama gönderilmez)
+     */
+    @SuppressWarnings("unchecked")
+    public SuggestionCapture typeWithSuggestions(String text) {
+        handleBotCheckIfPresent();
+
+        WebElement box = findActiveSearchBox();
+        if (box == null) {
+            throw new RuntimeException("Could not find any search box element");
+        }
+        box.clear();
+
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        js.executeScript(ARM_SUGGESTION_WATCH_JS, box);
+
+        long delayMillis = ConfigReader.getSuggestionKeystrokeDelayMillis();
+        logger.info("Typing '{}' with {} ms between keystrokes", text, delayMillis);
+        for (int i = 0; i < text.length(); i++) {
+            box.sendKeys(String.valueOf(text.charAt(i)));
+            if (delayMillis > 0 && i < text.length() - 1) {
+                CommonUtils.waitForMillis(delayMillis);
+            }
+        }
+
+        // Script timeout'unu aşmamak için bekleme bir saniye kısa tutulur
+        long timeoutMillis = Math.max(500L, Math.min(ConfigReader.getSuggestionTimeoutMillis(), (ConfigReader.getScriptTimeout() - 1) * 1000L));
+        Map<String, Object> raw = (Map<String, Object>) js.executeAsyncScript(COLLECT_SUGGESTION_WATCH_JS, timeoutMillis);
+        if (raw == null) {
+            logger.warn("Suggestion watch was lost (page navigated while typing)");
+            return new SuggestionCapture(text, new ArrayList<>(), new ArrayList<>());
+        }
+
+        List<SuggestionCapture.Keystroke> keystrokes = new ArrayList<>();
+        for (Map<String, Object> entry : (List<Map<String, Object>>) raw.get("keystrokes")) {
+            long latency = ((Number) entry.get("latency")).longValue();
+            keystrokes.add(new SuggestionCapture.Keystroke((String) entry.get("prefix"), latency,
+                    (List<String>) entry.get("suggestions")));
+            if (latency >= 0) {
+                PerformanceMonitor.recordOperation("suggestions.timeToFirst", PerformanceMonitor.PerformanceCategory.SEARCH,
+                        latency * 1_000_000L);
+            }
+        }
+        SuggestionCapture capture = new SuggestionCapture(text, keystrokes, (List<String>) raw.get("suggestions"));
+        logger.info("Captured {}", capture);
+        return capture;
+    }
+
+    /**
+     * Şu an görünen öneri listesini döner.
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> getSuggestions() {
+        return (List<String>) ((JavascriptExecutor) driver).executeScript(SUGGESTION_HELPERS_JS + "return readSuggestions();");
+    }
+
+    /**
+     * Verilen metni içeren öneriyi seçer ve sonuç sayfasını döner.
+     * @param suggestionText öneride aranacak metin (büyük/küçük harf duyarsız)
+     */
+    public SearchResultsPage selectSuggestion(String suggestionText) {
+        logger.info("Selecting suggestion containing: {}", suggestionText);
+        Boolean clicked = (Boolean) ((JavascriptExecutor) driver).executeScript(CLICK_SUGGESTION_JS, suggestionText);
+        if (!Boolean.TRUE.equals(clicked)) {
+            throw new RuntimeException("No search suggestion contains: " + suggestionText);
+        }
+        return new SearchResultsPage(driver);
+    }
+
     /**
      * Arama sonuçlarının görünüp görünmediğini döner.
      */
@@ -236,6 +435,16 @@ public class HomePage extends BasePage {
         return resultsText;
     }
 
+    /**
+     * Üst bardaki hesap selamlamasına göre oturumun açık olup olmadığını döner.
+     */
+    public boolean isSignedIn() {
+        List<WebElement> greeting = driver.findElements(By.id("nav-link-accountList-nav-line-1"));
+        boolean signedIn = !greeting.isEmpty() && !greeting.get(0).getText().toLowerCase().contains("sign in");
+        logger.debug("Signed in: {}", signedIn);
+        return signedIn;
+    }
+
     /**
      * Üst bardaki giriş bağlantısına tıklar (gerekirse bot ekranını temizler).
      */
@@ -24,6 +24,19 @@ public class LoginPage extends BasePage {
     @FindBy(css = ".error-message")
     private WebElement errorMessage;
     
+    // Amazon giriş formu (önce e-posta, sonra şifre)
+    @FindBy(id = "ap_email")
+    private WebElement amazonEmailField;
+    
+    @FindBy(id = "continue")
+    private WebElement amazonContinueButton;
+    
+    @FindBy(id = "ap_password")
+    private WebElement amazonPasswordField;
+    
+    @FindBy(id = "signInSubmit")
+    private WebElement amazonSignInButton;
+    
     /**
      * Kullanıcı adı alanına değer yazar.
      * @param username kullanıcı adı
@@ -80,4 +93,20 @@ public class LoginPage extends BasePage {
         enterPassword(password);
         clickLoginButton();
     }
+    
+    /**
+     * Amazon'un iki adımlı giriş formunu doldurur (e-posta, devam, şifre, giriş).
+     * @param email hesap e-postası
+     * @param password şifre
+     */
+    public void signInToAmazon(String email, String password) {
+        logger.info("Signing in to Amazon");
+        sendKeys(amazonEmailField, email);
+        if (isElementDisplayed(amazonContinueButton)) {
+            click(amazonContinueButton);
+        }
+        sendKeys(amazonPasswordField, password);
+        click(amazonSignInButton);
+        waitUtils.waitForPageToLoad();
+    }
 }
\ No newline at end of file
@@ -1,12 +1,21 @@
 package com.test.pages;
 
+import com.test.config.ConfigReader;
+import com.test.model.ProductDetails;
 import com.test.pages.BasePage;
 import com.test.utils.CommonUtils;
+import com.test.utils.EventWaits;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static com.test.utils.CommonUtils.getSelectedDropdownOption;
 
@@ -20,6 +29,9 @@ public class ProductDetailPage extends BasePage {
     // Page Elements using Page Factory
     
     // Product Information
+    /** Ürün başlığı göründüğünde sayfa kullanılabilir kabul edilir. */
+    public static final By READY = By.id("productTitle");
+
     @FindBy(id = "productTitle")
     private WebElement productTitle;
     
@@ -141,6 +153,9 @@ public class ProductDetailPage extends BasePage {
     @FindBy(css = "#attach-sidesheet-view-cart-button")
     private WebElement viewCartButton;
     
+    @FindBy(id = "nav-cart")
+    private WebElement navCartLink;
+    
     // Product Comparison
     @FindBy(css = "#compare-product")
     private WebElement compareProduct;
@@ -162,6 +177,127 @@ public class ProductDetailPage extends BasePage {
     @FindBy(css = "#bundleV2_feature_div")
     private WebElement frequentlyBoughtTogether;
     
+    /**
+     * Ürün bilgilerini tek seferde okuyan script. Fiyat için getter'daki sıralama korunur:
+     * ana fiyat bloğu, deal price, our price, en son whole/fraction.
+     */
+    private static final String PRODUCT_DETAILS_JS =
+            "function visible(e) { return !!(e && (e.offsetWidth || e.offsetHeight || e.getClientRects().length)); }" +
+            "function text(sel) { var e = document.querySelector(sel); return e ? (e.innerText || e.textContent || '').trim() : null; }" +
+            "function raw(sel) { var e = document.querySelector(sel); return e ? e.textContent.trim() : null; }" +
+            "var priceText = raw('#corePrice_feature_div .a-offscreen') || raw('#corePriceDisplay_desktop_feature_div .a-price .a-offscreen')" +
+            "  || raw('.apexPriceToPay .a-offscreen') || text('#priceblock_dealprice') || text('#priceblock_ourprice');" +
+            "if (!priceText && document.querySelector('.a-price-whole')) {" +
+            "  priceText = raw('.a-price-whole').replace(/[.\\s]+$/, '') + '.' + (raw('.a-price-fraction') || '00');" +
+            "}" +
+            "var features = [];" +
+            "document.querySelectorAll('#feature-bullets li').forEach(function (li) {" +
+            "  var t = visible(li) ? li.innerText.trim() : '';" +
+            "  if (t) { features.push(t); }" +
+            "});" +
+            "var star = document.querySelector('.a-icon.a-icon-star');" +
+            "var asinInput = document.querySelector('#ASIN, input[name=\"ASIN\"]');" +
+            "return {" +
+            "  asin: asinInput ? asinInput.value : null," +
+            "  title: text('#productTitle')," +
+            "  priceText: priceText," +
+            "  availability: text('#availability span') || text('#availability')," +
+            "  features: features," +
+            "  rating: star ? (star.getAttribute('title') || star.textContent.trim()) : null," +
+            "  reviews: text('#acrCustomerReviewText')," +
+            "  prime: visible(document.querySelector('.a-icon-prime')) || visible(document.querySelector('#primeDeliveryMessage'))," +
+            "  delivery: text('#deliveryBlockMessage') || text('#mir-layout-DELIVERY_BLOCK') || text('#fast-track-message')," +
+            "  images: document.querySelectorAll('#altImages img').length || (document.querySelector('#landingImage') ? 1 : 0)" +
+            "};";
+    
+    /**
+     * Sepete ekleme sonrası olası sonuçları (yan panel, onay bandı, hata, sepet URL'i) aynı anda izler
+     * ve ilk gerçekleşeni döner. DOM değişiklikleri MutationObserver ile, URL değişimi kısa aralıklı
+     * yoklama ile yakalanır; süre dolarsa TIMEOUT döner.
+     */
+    private static final String AWAIT_ADD_TO_CART_OUTCOME_JS =
+            "var timeout = arguments[0], done = arguments[arguments.length - 1];" +
+            "var start = performance.now(), finished = false, observer = null, timer = null;" +
+            "function shown(sel) {" +
+            "  var e = document.querySelector(sel);" +
+            "  return !!(e && !e.classList.contains('aok-hidden') && (e.offsetWidth || e.offsetHeight || e.getClientRects().length));" +
+            "}" +
+            "function firstShown(list) { for (var i = 0; i < list.length; i++) { if (shown(list[i])) { return list[i]; } } return null; }" +
+            "var outcomes = [" +
+            "  ['ERROR', ['#attach-error-alert', '#attachErrorAlert', '#addToCart .a-alert-error', '#huc-v2-order-row-messages .a-alert-error']]," +
+            "  ['SIDE_SHEET', ['#attach-added-to-cart-alert-and-image-area', '#sw-atc-details-single-container', '#attach-desktop-sideSheet']]," +
+            "  ['CONFIRMATION_BANNER', ['#attachDisplayAddBaseAlert', '#NATC_SMART_WAGON_CONF_MSG_SUCCESS', '#huc-v2-order-row-confirm-text', '#sw-atc-confirmation']]" +
+            "];" +
+            "function finish(outcome, sel) {" +
+            "  if (finished) { return; }" +
+            "  finished = true;" +
+            "  if (observer) { observer.disconnect(); }" +
+            "  clearTimeout(timer);" +
+            "  var e = sel ? document.querySelector(sel) : null;" +
+            "  done({outcome: outcome, latency: Math.round(performance.now() - start)," +
+            "        message: e ? e.innerText.trim().substring(0, 200) : null});" +
+            "}" +
+            "function check() {" +
+            "  for (var i = 0; i < outcomes.length; i++) {" +
+            "    var sel = firstShown(outcomes[i][1]);" +
+            "    if (sel) { finish(outcomes[i][0], sel); return; }" +
+            "  }" +
+            "  if (/\\/cart(\\/|\\?|$)/.test(location.pathname) && !/smart-wagon/.test(location.pathname)) { finish('CART_PAGE', null); return; }" +
+            "  if (performance.now() - start >= timeout) { finish('TIMEOUT', null); }" +
+            "}" +
+            "observer = new MutationObserver(check);" +
+            "observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true, attributeFilter: ['class', 'style']});" +
+            "(function poll() { check(); if (!finished) { timer = setTimeout(poll, 50); } })();";
+    
+    /** İlk erişimde okunan ürün bilgileri; sayfayı değiştiren işlemlerde sıfırlanır. */
+    private ProductDetails details;
+    
+    /**
+     * Sepete ekleme işleminin olası sonuçları.
+     */
+    public enum AddToCartOutcome {
+        SIDE_SHEET,
+        CONFIRMATION_BANNER,
+        CART_PAGE,
+        ERROR,
+        TIMEOUT
+    }
+    
+    /**
+     * Sepete ekleme sonucu: ilk gerçekleşen sonuç ve devam edilecek sayfa nesnesi.
+     */
+    public static class AddToCartResult {
+        private final AddToCartOutcome outcome;
+        private final BasePage nextPage;
+        private final String message;
+        private final long elapsedMillis;
+        
+        public AddToCartResult(AddToCartOutcome outcome, BasePage nextPage, String message, long elapsedMillis) {
+            this.outcome = outcome;
+            this.nextPage = nextPage;
+            this.message = message;
+            this.elapsedMillis = elapsedMillis;
+        }
+        
+        public AddToCartOutcome getOutcome() { return outcome; }
+        public BasePage getNextPage() { return nextPage; }
+        public String getMessage() { return message; }
+        public long getElapsedMillis() { return elapsedMillis; }
+        
+        public boolean isSuccessful() {
+            return outcome == AddToCartOutcome.SIDE_SHEET
+                    || outcome == AddToCartOutcome.CONFIRMATION_BANNER
+                    || outcome == AddToCartOutcome.CART_PAGE;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("AddToCartResult{outcome=%s, nextPage=%s, elapsed=%d ms%s}",
+                    outcome, nextPage.getClass().getSimpleName(), elapsedMillis,
+                    message != null ? ", message='" + message + "'" : "");
+        }
+    }
+    
     // Constructor
     public ProductDetailPage(WebDriver driver) {
         super(driver);
@@ -183,11 +319,49 @@ public class ProductDetailPage extends BasePage {
     
     // Product Information Methods
     
+    /**
+     * Ürün bilgilerini döner; ilk çağrıda tek script ile okunur, sonra önbellekten gelir.
+     */
+    public ProductDetails getDetails() {
+        if (details == null) {
+            details = extractDetails();
+            logger.debug("Loaded {}", details);
+        }
+        return details;
+    }
+    
+    /**
+     * Önbellekteki ürün bilgilerini geçersiz kılar (miktar/varyasyon değişimi, sepete ekleme).
+     */
+    public void invalidateDetails() {
+        details = null;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private ProductDetails extractDetails() {
+        Map<String, Object> raw = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(PRODUCT_DETAILS_JS);
+        
+        String priceText = (String) raw.get("priceText");
+        String reviews = CommonUtils.extractNumbers((String) raw.get("reviews"));
+        return new ProductDetails(
+                (String) raw.get("asin"),
+                raw.get("title") != null ? (String) raw.get("title") : "",
+                priceText != null ? CommonUtils.extractPriceFromText(priceText) : 0.0,
+                priceText,
+                raw.get("availability") != null ? (String) raw.get("availability") : "Availability unknown",
+                (List<String>) raw.get("features"),
+                raw.get("rating") != null ? (String) raw.get("rating") : "No rating available",
+                reviews.isEmpty() ? 0 : Integer.parseInt(reviews),
+                Boolean.TRUE.equals(raw.get("prime")),
+                raw.get("delivery") != null ? (String) raw.get("delivery") : "Delivery information not available",
+                ((Number) raw.get("images")).intValue());
+    }
+    
     /**
      * Ürün başlığını döner.
      */
     public String getProductTitle() {
-        String title = getText(productTitle);
+        String title = getDetails().getTitle();
         logger.info("Product title: {}", title);
         return title;
     }
@@ -196,36 +370,7 @@ public class ProductDetailPage extends BasePage {
      * Ürün fiyatını numerik değer olarak döner.
      */
     public double getProductPrice() {
-        double price = 0.0;
-        
-        // Try different price element selectors
-        try {
-            if (isElementDisplayed(priceOffscreen)) {
-                String priceText = getText(priceOffscreen);
-                price = CommonUtils.extractPriceFromText(priceText);
-                logger.debug("Price from offscreen element: {}", price);
-            }
-            else if (isElementDisplayed(dealPrice)) {
-                String priceText = getText(dealPrice);
-                price = CommonUtils.extractPriceFromText(priceText);
-                logger.debug("Price from deal price: {}", price);
-            }
-            else if (isElementDisplayed(ourPrice)) {
-                String priceText = getText(ourPrice);
-                price = CommonUtils.extractPriceFromText(priceText);
-                logger.debug("Price from our price: {}", price);
-            }
-            else if (isElementDisplayed(priceWhole)) {
-                String wholePrice = getText(priceWhole);
-                String fractionPrice = isElementDisplayed(priceFraction) ? getText(priceFraction) : "00";
-                String fullPrice = wholePrice + "." + fractionPrice;
-                price = CommonUtils.extractPriceFromText(fullPrice);
-                logger.debug("Price from whole/fraction: {}", price);
-            }
-        } catch (Exception e) {
-            logger.warn("Could not extract product price: {}", e.getMessage());
-        }
-        
+        double price = getDetails().getPrice();
         logger.info("Product price: ${}", price);
         return price;
     }
@@ -234,38 +379,17 @@ public class ProductDetailPage extends BasePage {
      * Ürün fiyatını biçimlendirilmiş metin olarak döner.
      */
     public String getProductPriceText() {
-        try {
-            if (isElementDisplayed(priceOffscreen)) {
-                return getText(priceOffscreen);
-            }
-            else if (isElementDisplayed(dealPrice)) {
-                return getText(dealPrice);
-            }
-            else if (isElementDisplayed(ourPrice)) {
-                return getText(ourPrice);
-            }
-        } catch (Exception e) {
-            logger.debug("Could not get formatted price text: {}", e.getMessage());
-        }
-        
-        return String.format("$%.2f", getProductPrice());
+        String priceText = getDetails().getPriceText();
+        return priceText != null ? priceText : String.format("$%.2f", getProductPrice());
     }
     
     /**
      * Ürün stok/erişilebilirlik durumunu döner.
      */
     public String getAvailabilityStatus() {
-        try {
-            if (isElementDisplayed(availabilityText)) {
-                String availability = getText(availabilityText);
-                logger.debug("Availability: {}", availability);
-                return availability;
-            }
-        } catch (Exception e) {
-            logger.debug("Could not get availability status: {}", e.getMessage());
-        }
-        
-        return "Availability unknown";
+        String availability = getDetails().getAvailability();
+        logger.debug("Availability: {}", availability);
+        return availability;
     }
     
     /**
@@ -285,22 +409,34 @@ public class ProductDetailPage extends BasePage {
      * Ürün özelliklerini liste olarak döner.
      */
     public List<String> getProductFeatures() {
-        List<String> features = productFeatures.stream()
-                .filter(this::isElementDisplayed)
-                .map(this::getText)
-                .collect(java.util.stream.Collectors.toList());
-        
+        List<String> features = getDetails().getFeatures();
         logger.debug("Product features count: {}", features.size());
         return features;
     }
     
+    /**
+     * Ürün görseli sayısını döner (küçük resimler, yoksa ana görsel).
+     */
+    public int getProductImageCount() {
+        return getDetails().getImageCount();
+    }
+    
     // Add to Cart Methods
     
     /**
-     * Ürünü sepete ekler. Diyalog açılırsa sayfada kalır, yoksa sepete gidişi döner.
+     * Ürünü sepete ekler. Diyalog/onay görünürse bu sayfayı, sepete yönlendirilirse CartPage'i döner.
      */
     public Object addToCart() {
+        return addToCartWithOutcome().getNextPage();
+    }
+    
+    /**
+     * Ürünü sepete ekler ve ilk gerçekleşen sonucu (yan panel, onay bandı, sepet sayfası, hata ya da
+     * zaman aşımı) sabit bekleme yapmadan tespit eder.
+     */
+    public AddToCartResult addToCartWithOutcome() {
         logger.info("Adding product to cart");
+        long start = System.currentTimeMillis();
         
         // Scroll to add to cart button
         scrollToElement(addToCartButton);
@@ -310,20 +446,50 @@ public class ProductDetailPage extends BasePage {
         
         // Click add to cart button
         click(addToCartButton);
+        invalidateDetails();
         
-        // Wait for response (either redirect to cart or confirmation dialog)
-        CommonUtils.waitFor(2);
+        // Script timeout'unu aşmamak için bekleme bir saniye kısa tutulur
+        long timeoutMillis = Math.max(1000L, Math.min(ConfigReader.getAddToCartTimeout(), ConfigReader.getScriptTimeout() - 1) * 1000L);
+        Map<String, Object> outcome = awaitAddToCartOutcome(timeoutMillis);
+        if (outcome == null) {
+            // Full page navigation (cart or confirmation page) aborted the script; classify the new page
+            waitUtils.waitForPageToLoad();
+            long remaining = Math.max(1000L, timeoutMillis - (System.currentTimeMillis() - start));
+            outcome = awaitAddToCartOutcome(remaining);
+        }
         
-        // Check if confirmation dialog appears
-        if (isAddToCartDialogDisplayed()) {
-            logger.info("Add to cart confirmation dialog appeared");
-            return this; // Stay on product page with dialog
+        AddToCartOutcome type;
+        String message = null;
+        if (outcome != null) {
+            type = AddToCartOutcome.valueOf((String) outcome.get("outcome"));
+            message = (String) outcome.get("message");
+        } else {
+            type = driver.getCurrentUrl().contains("/cart") ? AddToCartOutcome.CART_PAGE : AddToCartOutcome.TIMEOUT;
         }
-        else {
-            // If no dialog, we might have been redirected to cart
-            logger.info("Redirected to cart page");
-            waitUtils.waitForPageToLoad();
-            return new CartPage(driver);
+        
+        BasePage nextPage = type == AddToCartOutcome.CART_PAGE ? new CartPage(driver) : this;
+        AddToCartResult result = new AddToCartResult(type, nextPage, message, System.currentTimeMillis() - start);
+        if (result.isSuccessful()) {
+            logger.info("Add to cart outcome: {}", result);
+        } else {
+            logger.warn("Add to cart did not succeed: {}", result);
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> awaitAddToCartOutcome(long timeoutMillis) {
+        try {
+            return (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_ADD_TO_CART_OUTCOME_JS, timeoutMillis);
+        } catch (ScriptTimeoutException e) {
+            logger.debug("Add to cart outcome watch exceeded the script timeout: {}", e.getMessage());
+            return Collections.<String, Object>singletonMap("outcome", AddToCartOutcome.TIMEOUT.name());
+        } catch (WebDriverException e) {
+            if (!EventWaits.isDocumentSwitch(e)) {
+                throw e;
+            }
+            logger.debug("Add to cart outcome watch interrupted by navigation: {}", e.getMessage());
+            return null;
         }
     }
     
@@ -331,9 +497,12 @@ public class ProductDetailPage extends BasePage {
      * Ürünü sepete ekler ve ödeme adımına ilerler.
      */
     public CartPage addToCartAndProceedToCheckout() {
-        addToCart();
+        AddToCartResult result = addToCartWithOutcome();
+        if (result.getOutcome() == AddToCartOutcome.CART_PAGE) {
+            return (CartPage) result.getNextPage();
+        }
         
-        if (isAddToCartDialogDisplayed()) {
+        if (isElementDisplayed(proceedToCheckoutButton)) {
             click(proceedToCheckoutButton);
             waitUtils.waitForPageToLoad();
         }
@@ -346,12 +515,23 @@ public class ProductDetailPage extends BasePage {
      * Ürünü sepete ekler ve sepet sayfasına gider.
      */
     public CartPage addToCartAndViewCart() {
-        addToCart();
-        
-        if (isAddToCartDialogDisplayed()) {
+        AddToCartResult result = addToCartWithOutcome();
+        if (result.getOutcome() == AddToCartOutcome.CART_PAGE) {
+            return (CartPage) result.getNextPage();
+        }
+        return viewCart();
+    }
+    
+    /**
+     * Sepete ekleme sonrası sepet sayfasına gider (yan paneldeki buton, yoksa üst menüdeki sepet).
+     */
+    public CartPage viewCart() {
+        if (isElementDisplayed(viewCartButton)) {
             click(viewCartButton);
-            waitUtils.waitForPageToLoad();
+        } else {
+            click(navCartLink);
         }
+        waitUtils.waitForPageToLoad();
         
         logger.info("Viewing cart");
         return new CartPage(driver);
@@ -397,6 +577,7 @@ public class ProductDetailPage extends BasePage {
                 selectDropdownByValue(quantitySelect, String.valueOf(quantity));
             }
             
+            invalidateDetails();
             CommonUtils.waitFor(1); // Wait for any price updates
             logger.info("Quantity set to: {}", quantity);
             
@@ -434,6 +615,7 @@ public class ProductDetailPage extends BasePage {
         if (isElementDisplayed(colorOptions)) {
             logger.info("Selecting color: {}", color);
             selectDropdownByText(colorOptions, color);
+            invalidateDetails();
             CommonUtils.waitFor(2); // Wait for page to update with new selection
         } else {
             logger.debug("Color options not available for this product");
@@ -447,6 +629,7 @@ public class ProductDetailPage extends BasePage {
         if (isElementDisplayed(sizeOptions)) {
             logger.info("Selecting size: {}", size);
             selectDropdownByText(sizeOptions, size);
+            invalidateDetails();
             CommonUtils.waitFor(2); // Wait for page to update with new selection
         } else {
             logger.debug("Size options not available for this product");
@@ -459,37 +642,16 @@ public class ProductDetailPage extends BasePage {
      * Ürün puanlamasını metin olarak döner.
      */
     public String getProductRating() {
-        try {
-            if (isElementDisplayed(starRating)) {
-                String ratingText = getAttribute(starRating, "title");
-                if (ratingText == null) {
-                    ratingText = getText(starRating);
-                }
-                logger.debug("Product rating: {}", ratingText);
-                return ratingText;
-            }
-        } catch (Exception e) {
-            logger.debug("Could not get product rating: {}", e.getMessage());
-        }
-        
-        return "No rating available";
+        String rating = getDetails().getRating();
+        logger.debug("Product rating: {}", rating);
+        return rating;
     }
     
     /**
      * Müşteri değerlendirme sayısını döner.
      */
     public int getReviewCount() {
-        try {
-            if (isElementDisplayed(customerReviewText)) {
-                String reviewText = getText(customerReviewText);
-                String numbers = CommonUtils.extractNumbers(reviewText);
-                return numbers.isEmpty() ? 0 : Integer.parseInt(numbers.replace(",", ""));
-            }
-        } catch (Exception e) {
-            logger.debug("Could not get review count: {}", e.getMessage());
-        }
-        
-        return 0;
+        return getDetails().getReviewCount();
     }
     
     // Prime and Shipping Methods
@@ -498,8 +660,7 @@ public class ProductDetailPage extends BasePage {
      * Ürün Prime kargo uygunluğuna sahip mi kontrol eder.
      */
     public boolean isPrimeEligible() {
-        boolean primeEligible = isElementDisplayed(primeIcon) || 
-                               isElementDisplayed(primeDeliveryMessage);
+        boolean primeEligible = getDetails().isPrimeEligible();
         logger.debug("Prime eligible: {}", primeEligible);
         return primeEligible;
     }
@@ -508,18 +669,7 @@ public class ProductDetailPage extends BasePage {
      * Teslimat bilgisi metnini döner.
      */
     public String getDeliveryInfo() {
-        try {
-            if (isElementDisplayed(deliveryMessage)) {
-                return getText(deliveryMessage);
-            }
-            else if (isElementDisplayed(fastTrackMessage)) {
-                return getText(fastTrackMessage);
-            }
-        } catch (Exception e) {
-            logger.debug("Could not get delivery info: {}", e.getMessage());
-        }
-        
-        return "Delivery information not available";
+        return getDetails().getDeliveryInfo();
     }
     
     // Validation Methods
@@ -569,13 +719,14 @@ public class ProductDetailPage extends BasePage {
      * Ürün özet bilgilerini metin olarak döner.
      */
     public String getProductSummary() {
+        ProductDetails current = getDetails();
         StringBuilder summary = new StringBuilder();
-        summary.append("Product: ").append(getProductTitle()).append("\n");
-        summary.append("Price: $").append(getProductPrice()).append("\n");
-        summary.append("Rating: ").append(getProductRating()).append("\n");
-        summary.append("Reviews: ").append(getReviewCount()).append("\n");
-        summary.append("Availability: ").append(getAvailabilityStatus()).append("\n");
-        summary.append("Prime Eligible: ").append(isPrimeEligible()).append("\n");
+        summary.append("Product: ").append(current.getTitle()).append("\n");
+        summary.append("Price: $").append(current.getPrice()).append("\n");
+        summary.append("Rating: ").append(current.getRating()).append("\n");
+        summary.append("Reviews: ").append(current.getReviewCount()).append("\n");
+        summary.append("Availability: ").append(current.getAvailability()).append("\n");
+        summary.append("Prime Eligible: ").append(current.isPrimeEligible()).append("\n");
         
         String productSummary = summary.toString();
         logger.info("Product Summary:\n{}", productSummary);
@@ -1,24 +1,30 @@
 package com.test.pages;
 
+import com.test.config.ConfigReader;
 import com.test.utils.CommonUtils;
-import com.test.utils.ErrorRecoveryManager;
 import com.test.utils.PerformanceMonitor;
-import com.test.utils.WaitUtils;
+import com.test.utils.SearchUrlBuilder;
+import com.test.utils.TopK;
 import com.test.model.Product;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
-import java.time.Duration;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Amazon Arama Sonuçları Page Object.
@@ -36,6 +42,9 @@ public class SearchResultsPage extends BasePage {
     @FindBy(css = "h1.a-size-base-plus")
     private WebElement resultsHeader;
 
+    /** Sonuç listesi göründüğünde sayfa kullanılabilir kabul edilir. */
+    public static final By READY = By.cssSelector(".s-result-list");
+
     // **Bu container sayfa yüklenmesini beklemek için kullanılıyor**
     @FindBy(css = ".s-result-list")
     private WebElement resultsList;
@@ -70,6 +79,33 @@ public class SearchResultsPage extends BasePage {
     @FindBy(css = "a[data-value='price-asc-rank']")
     private WebElement sortByPriceLowToHigh;
 
+    /**
+     * Bir dokümandaki tüm arama sonucu kartlarını tek geçişte okuyan JS fonksiyonu.
+     * Hem canlı {@code document} hem de DOMParser ile ayrıştırılmış sayfalar için kullanılır;
+     * her kart için asin, title, price (metin), rating, reviews ve sponsored alanlarını döner.
+     */
+    private static final String CARD_EXTRACTOR_JS =
+            "function extractCards(doc) {" +
+            "  function text(root, sel) { var el = root.querySelector(sel); return el ? el.textContent.trim() : null; }" +
+            "  var cards = [];" +
+            "  var items = doc.querySelectorAll(\"[data-component-type='s-search-result']\");" +
+            "  for (var i = 0; i < items.length; i++) {" +
+            "    var item = items[i], asin = item.getAttribute('data-asin');" +
+            "    if (!asin) { continue; }" +
+            "    cards.push({" +
+            "      asin: asin," +
+            "      index: i," +
+            "      title: text(item, 'h2 span') || text(item, 'h2')," +
+            "      price: text(item, '.a-price:not(.a-text-price) .a-offscreen') || text(item, '.a-price .a-offscreen')," +
+            "      rating: text(item, '.a-icon-alt')," +
+            "      reviews: text(item, \"a[href*='customerReviews'] span\") || text(item, 'span.a-size-base.s-underline-text')," +
+            "      sponsored: item.getAttribute('data-sponsored') === 'true'" +
+            "        || !!item.querySelector(\".puis-sponsored-label-text, [data-component-type='sp-sponsored-result']\")" +
+            "    });" +
+            "  }" +
+            "  return cards;" +
+            "}";
+
     // Constructor
     public SearchResultsPage(WebDriver driver) {
         super(driver);
@@ -161,9 +197,7 @@ public class SearchResultsPage extends BasePage {
         List<String> titles = productTitles.stream()
                 .filter(this::isElementDisplayed)
                 .map(this::getText)
-                .filter(text -> text != null && !text.trim().isEmpty()) 
-                .filter(text -> text.length() > 20) // MacBook Pro başlıkları en az 20 karakter olmalı
-                .filter(text -> text.toLowerCase().contains("macbook") || text.toLowerCase().contains("mac book"))
+                .filter(SearchResultsPage::isMacBookTitle)
                 .collect(Collectors.toList());
 
         logger.debug("WebElement extraction: {} product titles", titles.size());
@@ -218,33 +252,49 @@ public class SearchResultsPage extends BasePage {
         List<Double> prices = new ArrayList<>();
 
         // Try to get prices from screen reader elements first (more reliable)
-        for (WebElement priceElement : productPriceScreenReader) {
-            if (isElementDisplayed(priceElement)) {
-                String priceText = getText(priceElement);
-                double price = CommonUtils.extractPriceFromText(priceText);
-                if (price > 0) {
-                    prices.add(price);
-                }
-            }
-        }
+        prices.addAll(parsePrices(visibleTexts(productPriceScreenReader)));
 
         // If screen reader prices are not available, try visible prices
         if (prices.isEmpty()) {
-            for (WebElement priceElement : productPrices) {
-                if (isElementDisplayed(priceElement)) {
-                    String priceText = getText(priceElement);
-                    double price = CommonUtils.extractPriceFromText(priceText);
-                    if (price > 0) {
-                        prices.add(price);
-                    }
-                }
-            }
+            prices.addAll(parsePrices(visibleTexts(productPrices)));
         }
 
         logger.info("Retrieved {} product prices", prices.size());
         return prices;
     }
 
+    private List<String> visibleTexts(List<WebElement> elements) {
+        return elements.stream()
+                .filter(this::isElementDisplayed)
+                .map(this::getText)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Başlığın bir MacBook ürün başlığı olup olmadığını kontrol eder (en az 20 karakter, "macbook"/"mac book" içerir).
+     */
+    public static boolean isMacBookTitle(String text) {
+        if (text == null || text.trim().isEmpty() || text.length() <= 20) {
+            return false;
+        }
+        String lower = text.toLowerCase();
+        return lower.contains("macbook") || lower.contains("mac book");
+    }
+
+    /**
+     * Fiyat metinlerini sayıya çevirir; çözümlenemeyen veya sıfır olan değerleri atar.
+     */
+    public static List<Double> parsePrices(List<String> priceTexts) {
+        List<Double> prices = new ArrayList<>(priceTexts.size());
+        for (String priceText : priceTexts) {
+            double price = CommonUtils.extractPriceFromText(priceText);
+            if (price > 0) {
+                prices.add(price);
+            }
+        }
+        return prices;
+    }
+
     /**
      * Verilen sonuç indeksine ait ürün bilgisini döner.
      */
@@ -260,75 +310,64 @@ public class SearchResultsPage extends BasePage {
         String rating = getProductRatingFromElement(productElement);
         int reviewCount = getReviewCountFromElement(productElement);
         boolean isSponsored = isProductSponsored(productElement);
+        String asin = getAttribute(productElement, "data-asin");
 
-        ProductInfo productInfo = new ProductInfo(title, price, rating, reviewCount, isSponsored, index);
+        ProductInfo productInfo = new ProductInfo(title, price, rating, reviewCount, isSponsored, index, asin);
         logger.debug("Product info for index {}: {}", index, productInfo);
 
         return productInfo;
     }
 
+    /**
+     * Sonuç kartlarını tek script çağrısıyla okuyup akış olarak sunar.
+     * Filtreler ve sıralama kontrolleri kartları sırayla tüketir; kısa devre yapan işlemler
+     * (ör. sıralama ihlali) kalan kartları dönüştürmez.
+     */
+    public ProductPipeline products() {
+        List<Map<String, Object>> cards = extractCurrentPageCards();
+        logger.debug("Extracted {} result cards in one call", cards.size());
+        return new ProductPipeline(cards.stream().map(SearchResultsPage::toProductInfo));
+    }
+
+    private static ProductInfo toProductInfo(Map<String, Object> card) {
+        String title = card.get("title") != null ? (String) card.get("title") : "Unknown Product";
+        double price = CommonUtils.extractPriceFromText((String) card.get("price"));
+        String rating = card.get("rating") != null ? (String) card.get("rating") : "No rating";
+        String reviews = CommonUtils.extractNumbers((String) card.get("reviews"));
+        int reviewCount = reviews.isEmpty() ? 0 : Integer.parseInt(reviews);
+        boolean sponsored = Boolean.TRUE.equals(card.get("sponsored"));
+        int index = ((Number) card.get("index")).intValue();
+        return new ProductInfo(title, price, rating, reviewCount, sponsored, index, (String) card.get("asin"));
+    }
+
     /**
      * Geçerli sonuçlar içinde en pahalı MacBook Pro'yu bulur.
-     * Enhanced with performance monitoring and error recovery
      */
     public ProductInfo findMostExpensiveMacBookPro() {
-        return PerformanceMonitor.timeOperation("findMostExpensiveMacBookPro", 
+        return PerformanceMonitor.timeOperation("findMostExpensiveMacBookPro",
             PerformanceMonitor.PerformanceCategory.BUSINESS_LOGIC, () -> {
-                
-            return ErrorRecoveryManager.executeWithRecovery(() -> {
                 logger.info("Looking for most expensive MacBook Pro");
-                logger.info("Search results found: {}", searchResults.size());
 
-                if (searchResults.isEmpty()) {
-                    logger.error("No search results found");
-                    throw new RuntimeException("No search results found. Please check if search was successful.");
+                // Kartlar bir kez okunur; fiyatsız durumdaki yedek seçim de aynı listeden yapılır
+                List<ProductInfo> macBooks = products()
+                        .withAnyKeyword("macbook pro", "macbook", "mac book")
+                        .toList();
+                List<ProductInfo> top = new ProductPipeline(macBooks.stream())
+                        .minPrice(0.01) // Only consider products with valid prices
+                        .topByPrice(1);
+
+                if (!top.isEmpty()) {
+                    ProductInfo mostExpensive = top.get(0);
+                    logger.info("Most expensive MacBook Pro found: {} - ${}",
+                            mostExpensive.getTitle(), mostExpensive.getPrice());
+                    return mostExpensive;
                 }
 
-                List<ProductInfo> macBookProducts = new ArrayList<>();
-
-                logger.debug("Processing {} search results", searchResults.size());
-
-                for (int i = 0; i < Math.min(searchResults.size(), 20); i++) { // Limit to first 20 results for performance
-                    try {
-                        final int index = i; // Make it final for lambda
-                        ProductInfo productInfo = ErrorRecoveryManager.executeWithRecovery(
-                            () -> getProductInfo(index), 
-                            "getProductInfo_" + index, 
-                            2, 
-                            driver
-                        );
-                        
-                        logger.debug("Product {}: Title='{}', Price=${}", i, productInfo.getTitle(), productInfo.getPrice());
-
-                        // Check if product title contains MacBook Pro (case insensitive)
-                        if (CommonUtils.containsAnyKeyword(productInfo.getTitle().toLowerCase(),
-                                "macbook pro", "macbook", "mac book")) {
-                            macBookProducts.add(productInfo);
-                            logger.info("Found MacBook Pro: {} - ${}", productInfo.getTitle(), productInfo.getPrice());
-                        }
-                    } catch (Exception e) {
-                        logger.warn("Error processing search result {}: {}", i, e.getMessage());
-                    }
-                }
-
-                if (macBookProducts.isEmpty()) {
-                    logger.error("No MacBook Pro products found in {} search results", searchResults.size());
-                    throw new RuntimeException("No MacBook Pro products found in search results");
-                }
-
-                // Find the most expensive one
-                ProductInfo mostExpensive = macBookProducts.stream()
-                        .filter(p -> p.getPrice() > 0) // Only consider products with valid prices
-                        .max(Comparator.comparing(ProductInfo::getPrice))
-                        .orElse(macBookProducts.get(0)); // Fallback to first if no prices found
-
-                logger.info("Most expensive MacBook Pro found: {} - ${}",
-                        mostExpensive.getTitle(), mostExpensive.getPrice());
-
-                return mostExpensive;
-                
-            }, "findMostExpensiveMacBookPro", 3, driver);
-        });
+                // Fallback to first MacBook if no prices found
+                return macBooks.stream()
+                        .findFirst()
+                        .orElseThrow(() -> new RuntimeException("No MacBook Pro products found in search results"));
+            });
     }
 
     /**
@@ -364,33 +403,48 @@ public class SearchResultsPage extends BasePage {
      */
     public ProductDetailPage clickOnMostExpensiveMacBookPro() {
         ProductInfo mostExpensive = findMostExpensiveMacBookPro();
+        if (mostExpensive.getAsin() != null && !mostExpensive.getAsin().isEmpty()) {
+            return clickOnProductByAsin(mostExpensive.getAsin());
+        }
         return clickOnProduct(mostExpensive.getIndex());
     }
 
     /**
-     * Fiyat: yüksekten düşüğe sıralama uygular.
+     * ASIN ile ürüne tıklar ve ürün detay sayfasına gider.
+     * @param asin ürünün Amazon ASIN değeri ({@code data-asin})
      */
-    public void sortByPriceHighToLow() {
-        logger.info("Sorting by price: High to Low");
-
-        try {
-            // Try clicking the dropdown first
-            if (isElementDisplayed(sortByDropdown)) {
-                click(sortByDropdown);
-                CommonUtils.waitFor(1);
-            }
+    public ProductDetailPage clickOnProductByAsin(String asin) {
+        openProductByAsin(asin);
+        waitUtils.waitForPageToLoad();
+        logger.info("Navigated to product detail page for ASIN {}", asin);
+        return new ProductDetailPage(driver);
+    }
 
-            // Click on the price high to low option
-            waitUtils.waitForElementToBeClickable(sortByPriceHighToLow);
-            click(sortByPriceHighToLow);
+    /**
+     * Mevcut sonuç URL'inden (anahtar kelime, sıralama, filtreler, sayfa) bir sorgu oluşturucu döner.
+     * Değiştirilen sorgu {@link #applyQuery(SearchUrlBuilder)} ile tek navigasyonda uygulanır.
+     */
+    public SearchUrlBuilder query() {
+        return SearchUrlBuilder.fromUrl(getCurrentUrl());
+    }
 
-            waitForSearchResultsToLoad();
-            logger.info("Successfully sorted by price: High to Low");
+    /**
+     * Sıralama, marka, fiyat aralığı ve sayfa parametrelerini tek sayfa yüklemesiyle uygular.
+     */
+    public SearchResultsPage applyQuery(SearchUrlBuilder query) {
+        String url = query.build();
+        logger.info("Applying search query: {}", url);
+        // Alt kaynaklar (resimler, reklamlar) beklenmez; sonuç listesi görünmesi yeterli
+        navigateTo(url, PageLoadStrategy.EAGER, READY);
+        return this;
+    }
 
-        } catch (Exception e) {
-            logger.warn("Failed to sort by price high to low using dropdown, trying alternative method");
-            sortByPriceAlternative("price-desc-rank");
-        }
+    /**
+     * Fiyat: yüksekten düşüğe sıralama uygular.
+     */
+    public void sortByPriceHighToLow() {
+        logger.info("Sorting by price: High to Low");
+        applyQuery(query().sort(SearchUrlBuilder.SortOrder.PRICE_HIGH_TO_LOW));
     }
 
     /**
@@ -398,55 +452,23 @@ public class SearchResultsPage extends BasePage {
      */
     public void sortByPriceLowToHigh() {
         logger.info("Sorting by price: Low to High");
-
-        try {
-            if (isElementDisplayed(sortByDropdown)) {
-                click(sortByDropdown);
-                CommonUtils.waitFor(1);
-            }
-
-            waitUtils.waitForElementToBeClickable(sortByPriceLowToHigh);
-            click(sortByPriceLowToHigh);
-
-            waitForSearchResultsToLoad();
-            logger.info("Successfully sorted by price: Low to High");
-
-        } catch (Exception e) {
-            logger.warn("Failed to sort by price low to high using dropdown, trying alternative method");
-            sortByPriceAlternative("price-asc-rank");
-        }
+        applyQuery(query().sort(SearchUrlBuilder.SortOrder.PRICE_LOW_TO_HIGH));
     }
 
     /**
-     * URL parametresi ile alternatif sıralama uygular.
+     * Marka filtresi uygular (örn. Apple).
      */
-    private void sortByPriceAlternative(String sortValue) {
-        try {
-            String currentUrl = getCurrentUrl();
-            String sortedUrl;
-
-            if (currentUrl.contains("&s=")) {
-                sortedUrl = currentUrl.replaceAll("&s=[^&]*", "&s=" + sortValue);
-            } else {
-                sortedUrl = currentUrl + "&s=" + sortValue;
-            }
-
-            driver.navigate().to(sortedUrl);
-            waitForSearchResultsToLoad();
-            logger.info("Applied sorting using URL method: {}", sortValue);
-
-        } catch (Exception e) {
-            logger.error("Failed to apply sorting: {}", e.getMessage());
-        }
+    public void applyBrandFilter(String brandName) {
+        logger.info("Applying brand filter: {}", brandName);
+        applyQuery(query().brand(brandName));
     }
 
     /**
-     * Marka filtresi uygular (örn. Apple). Placeholder.
+     * Fiyat aralığı filtresi uygular (dolar); sınırlardan biri null olabilir.
      */
-    public void applyBrandFilter(String brandName) {
-        logger.info("Applying brand filter: {}", brandName);
-        // Implementation for brand filtering
-        logger.info("Brand filter applied: {}", brandName);
+    public void applyPriceFilter(Double minPrice, Double maxPrice) {
+        logger.info("Applying price filter: {} - {}", minPrice, maxPrice);
+        applyQuery(query().priceRange(minPrice, maxPrice));
     }
 
     // Helper Methods
@@ -665,14 +687,20 @@ public class SearchResultsPage extends BasePage {
         private final int reviewCount;
         private final boolean isSponsored;
         private final int index;
+        private final String asin;
 
         public ProductInfo(String title, double price, String rating, int reviewCount, boolean isSponsored, int index) {
+            this(title, price, rating, reviewCount, isSponsored, index, null);
+        }
+
+        public ProductInfo(String title, double price, String rating, int reviewCount, boolean isSponsored, int index, String asin) {
             this.title = title;
             this.price = price;
             this.rating = rating;
             this.reviewCount = reviewCount;
             this.isSponsored = isSponsored;
             this.index = index;
+            this.asin = asin;
         }
 
         public String getTitle() { return title; }
@@ -681,189 +709,305 @@ public class SearchResultsPage extends BasePage {
         public int getReviewCount() { return reviewCount; }
         public boolean isSponsored() { return isSponsored; }
         public int getIndex() { return index; }
+        public String getAsin() { return asin; }
 
         @Override
         public String toString() {
-            return String.format("ProductInfo{title='%s', price=%.2f, rating='%s', reviews=%d, sponsored=%s, index=%d}",
-                    title, price, rating, reviewCount, isSponsored, index);
+            return String.format("ProductInfo{title='%s', price=%.2f, rating='%s', reviews=%d, sponsored=%s, index=%d, asin='%s'}",
+                    title, price, rating, reviewCount, isSponsored, index, asin);
         }
     }
-    public Product findMostExpensiveProduct(String productKeyword) {
-        logger.info(productKeyword + " için en pahalı ürün aranıyor");
 
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        
-        // Yeni Amazon layout için güncellendi - screenshot'ta gördüğümüz yapı
-        String[] productContainerSelectors = {
-                ".s-result-item",  // Yeni layout
-                "[data-component-type='s-search-result']",  // Eski layout fallback
-                ".a-section.a-spacing-base"  // Alternative selector
-        };
-        
-        List<WebElement> productElements = new ArrayList<>();
-        for (String selector : productContainerSelectors) {
-            try {
-                wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector(selector)));
-                productElements = driver.findElements(By.cssSelector(selector));
-                if (!productElements.isEmpty()) {
-                    logger.debug("Using product container selector: " + selector);
-                    break;
-                }
-            } catch (Exception e) {
-                logger.debug("Product container selector failed: " + selector + " - " + e.getMessage());
-            }
+    /**
+     * Sonuç kartları üzerinde akış tabanlı sorgu.
+     * Filtreler tembel eklenir; terminal işlemler kartları sırayla tüketir ve liste kurmadan sonuç üretir.
+     */
+    public static class ProductPipeline {
+        private Stream<ProductInfo> stream;
+
+        ProductPipeline(Stream<ProductInfo> stream) {
+            this.stream = stream;
         }
 
-        logger.info("Toplam " + productElements.size() + " arama sonucu bulundu");
+        /** Başlığında verilen kelimelerden en az birini içeren ürünler (büyük/küçük harf duyarsız). */
+        public ProductPipeline withAnyKeyword(String... keywords) {
+            return filter(p -> CommonUtils.containsAnyKeyword(p.getTitle(), keywords));
+        }
 
-        Product mostExpensive = null;
-        double highestPrice = 0.0;
-        int validProductsFound = 0;
+        /** Fiyatı verilen değere eşit ya da büyük ürünler. */
+        public ProductPipeline minPrice(double min) {
+            return filter(p -> p.getPrice() >= min);
+        }
 
-        // İlk 20 ürünü kontrol et (performans için)
-        int maxProducts = Math.min(productElements.size(), 20);
-        for (int i = 0; i < maxProducts; i++) {
-            try {
-                WebElement productElement = productElements.get(i);
-                logger.debug("İşleniyor ürün index: " + i);
-                
-                // Debug için ürün HTML'ini logla
-                try {
-                    String productHtml = productElement.getAttribute("outerHTML");
-                    logger.debug("Ürün HTML (ilk 200 karakter): " + 
-                        (productHtml.length() > 200 ? productHtml.substring(0, 200) + "..." : productHtml));
-                } catch (Exception e) {
-                    logger.debug("HTML extract edilemedi: " + e.getMessage());
-                }
-                
-                Product product = extractProductInfo(productElement, productKeyword);
-
-                if (product != null) {
-                    validProductsFound++;
-                    logger.info("Geçerli ürün bulundu #{}: {} - ${}", validProductsFound, product.getName(), product.getPrice());
-                    
-                    if (product.getPrice() > highestPrice) {
-                        highestPrice = product.getPrice();
-                        mostExpensive = product;
-                        mostExpensive.setElementIndex(i);
-
-                        logger.info("YENİ EN YÜKSEK FİYAT: " + product.getName() + " - $" + product.getPrice());
-                    }
-                } else {
-                    logger.debug("Ürün index {} için geçerli bilgi çıkarılamadı", i);
-                }
+        /** Fiyatı verilen değere eşit ya da küçük ürünler. */
+        public ProductPipeline maxPrice(double max) {
+            return filter(p -> p.getPrice() <= max);
+        }
 
-                // Her 5 üründe bir kısa mola
-                if ((i + 1) % 5 == 0) {
-                    WaitUtils.sleepMillis(1000);
-                }
+        /** Sponsorlu ürünleri dahil eder ya da dışarıda bırakır. */
+        public ProductPipeline sponsored(boolean include) {
+            return include ? this : filter(p -> !p.isSponsored());
+        }
 
-            } catch (Exception e) {
-                logger.warn("Ürün işleme hatası (index " + i + "): " + e.getMessage());
-            }
+        public ProductPipeline filter(Predicate<ProductInfo> predicate) {
+            stream = stream.filter(predicate);
+            return this;
         }
 
-        logger.info("Toplam {} geçerli {} ürünü bulundu", validProductsFound, productKeyword);
+        /** İlk eşleşen ürün. */
+        public Optional<ProductInfo> first() {
+            return stream.findFirst();
+        }
 
-        if (mostExpensive == null) {
-            logger.error("HİÇBİR GEÇERLİ {} ÜRÜNÜ BULUNAMADI!", productKeyword);
-            
-            // Debugging için ilk ürünün detaylı analizi
-            if (!productElements.isEmpty()) {
-                try {
-                    WebElement firstProduct = productElements.get(0);
-                    logger.error("İlk ürün debug bilgileri:");
-                    logger.error("- Element tag: " + firstProduct.getTagName());
-                    logger.error("- Element text (ilk 200 kar): " + 
-                        (firstProduct.getText().length() > 200 ? firstProduct.getText().substring(0, 200) + "..." : firstProduct.getText()));
-                    
-                    // Title çıkarma denemesi
-                    String debugTitle = getProductTitleFromElement(firstProduct);
-                    logger.error("- Çıkarılan title: " + debugTitle);
-                    
-                    // Price çıkarma denemesi
-                    double debugPrice = getProductPriceFromElement(firstProduct);
-                    logger.error("- Çıkarılan fiyat: $" + debugPrice);
-                    
-                } catch (Exception e) {
-                    logger.error("Debug bilgisi alınamadı: " + e.getMessage());
+        /** Fiyata göre en pahalı K ürün, büyükten küçüğe. */
+        public List<ProductInfo> topByPrice(int k) {
+            TopK<ProductInfo> top = new TopK<>(k, Comparator.comparingDouble(ProductInfo::getPrice));
+            stream.forEach(top::offer);
+            return top.toSortedList();
+        }
+
+        public List<ProductInfo> toList() {
+            return stream.collect(Collectors.toList());
+        }
+
+        /**
+         * Fiyat sıralamasını kontrol eder ve ilk ihlalde durur.
+         * @param descending true ise azalan, false ise artan sıra beklenir
+         */
+        public PriceOrderCheck checkPriceOrder(boolean descending) {
+            ProductInfo previous = null;
+            int checked = 0;
+            for (ProductInfo current : (Iterable<ProductInfo>) stream::iterator) {
+                checked++;
+                if (previous != null) {
+                    boolean inOrder = descending
+                            ? previous.getPrice() >= current.getPrice()
+                            : previous.getPrice() <= current.getPrice();
+                    if (!inOrder) {
+                        return new PriceOrderCheck(checked, previous, current);
+                    }
                 }
+                previous = current;
             }
-            
+            return new PriceOrderCheck(checked, null, null);
+        }
+    }
+
+    /**
+     * Fiyat sıralama kontrolünün sonucu: kontrol edilen ürün sayısı ve varsa ilk ihlal eden çift.
+     */
+    public static class PriceOrderCheck {
+        private final int checkedCount;
+        private final ProductInfo before;
+        private final ProductInfo after;
+
+        PriceOrderCheck(int checkedCount, ProductInfo before, ProductInfo after) {
+            this.checkedCount = checkedCount;
+            this.before = before;
+            this.after = after;
+        }
+
+        public int getCheckedCount() { return checkedCount; }
+        public boolean isSorted() { return before == null; }
+        public ProductInfo getBefore() { return before; }
+        public ProductInfo getAfter() { return after; }
+
+        @Override
+        public String toString() {
+            return isSorted()
+                    ? String.format("sorted (%d products checked)", checkedCount)
+                    : String.format("order violated after %d products: %.2f (index %d) -> %.2f (index %d)",
+                            checkedCount, before.getPrice(), before.getIndex(), after.getPrice(), after.getIndex());
+        }
+    }
+    /**
+     * Anahtar kelimeye uyan en pahalı ürünü, yapılandırılan sayıda sonuç sayfasını tarayarak bulur.
+     * @param productKeyword aranan ürün anahtar kelimesi
+     * @return en yüksek fiyatlı ürün
+     */
+    public Product findMostExpensiveProduct(String productKeyword) {
+        logger.info(productKeyword + " için en pahalı ürün aranıyor");
+
+        List<Product> top = crawlTopProducts(productKeyword, ConfigReader.getSearchCrawlMaxPages(), 1);
+
+        if (top.isEmpty()) {
+            logger.error("HİÇBİR GEÇERLİ {} ÜRÜNÜ BULUNAMADI! URL: {}", productKeyword, driver.getCurrentUrl());
             throw new RuntimeException("Geçerli " + productKeyword + " ürünü bulunamadı");
         }
 
+        Product mostExpensive = top.get(0);
         logger.info("EN PAHALI ÜRÜN SEÇİLDİ: {} - ${}", mostExpensive.getName(), mostExpensive.getPrice());
         return mostExpensive;
     }
 
-    private Product extractProductInfo(WebElement productElement, String keyword) {
-        try {
-            // Enhanced title extraction with multiple strategies
-            String title = getProductTitleFromElement(productElement);
-            
-            if (title == null || title.equals("Unknown Product")) {
-                logger.debug("Could not extract valid title for product element");
-                return null;
+    /**
+     * Birden fazla sonuç sayfasını tarar ve anahtar kelimeye uyan en pahalı K ürünü döner.
+     * Her sayfa tek bir script çağrısıyla toplu olarak okunur, ürünler K boyutlu bir heap'ten geçirilir.
+     * İlk sayfa mevcut DOM'dan okunur; diğer sayfalar eşzamanlılık > 1 ise sayfa içinden paralel
+     * fetch ile, değilse sırayla ziyaret edilerek okunur.
+     * @param productKeyword anahtar kelime
+     * @param maxPages taranacak sayfa sayısı
+     * @param k döndürülecek ürün sayısı
+     * @return fiyata göre azalan sırada en fazla K ürün
+     */
+    public List<Product> crawlTopProducts(String productKeyword, int maxPages, int k) {
+        long start = System.currentTimeMillis();
+        TopK<Product> topProducts = new TopK<>(k, Comparator.comparingDouble(Product::getPrice));
+        Set<String> seenAsins = new HashSet<>();
+        int pages = Math.max(1, maxPages);
+        int concurrency = ConfigReader.getSearchCrawlConcurrency();
+
+        int scanned = offerCards(extractCurrentPageCards(), productKeyword, topProducts, seenAsins);
+        logger.debug("Page 1: {} products scanned", scanned);
+
+        if (pages > 1) {
+            String firstPageUrl = driver.getCurrentUrl();
+            List<String> pageUrls = new ArrayList<>();
+            for (int page = 2; page <= pages; page++) {
+                pageUrls.add(withPageParameter(firstPageUrl, page));
             }
 
+            if (concurrency > 1) {
+                List<List<Map<String, Object>>> pageCards = fetchPagesInParallel(pageUrls, concurrency);
+                for (int i = 0; i < pageCards.size(); i++) {
+                    scanned = offerCards(pageCards.get(i), productKeyword, topProducts, seenAsins);
+                    logger.debug("Page {}: {} products scanned", i + 2, scanned);
+                }
+            } else {
+                for (int i = 0; i < pageUrls.size(); i++) {
+                    driver.get(pageUrls.get(i));
+                    waitUtils.waitForPageToLoad();
+                    scanned = offerCards(extractCurrentPageCards(), productKeyword, topProducts, seenAsins);
+                    logger.debug("Page {}: {} products scanned", i + 2, scanned);
+                }
+                driver.get(firstPageUrl);
+                waitForSearchResultsToLoad();
+            }
+        }
+
+        List<Product> result = topProducts.toSortedList();
+        logger.info("{} sayfada {} benzersiz ürün tarandı, en pahalı {} ürün seçildi ({} ms)",
+                pages, seenAsins.size(), result.size(), System.currentTimeMillis() - start);
+        return result;
+    }
+
+    private int offerCards(List<Map<String, Object>> cards, String keyword, TopK<Product> topProducts, Set<String> seenAsins) {
+        int scanned = 0;
+        for (Map<String, Object> card : cards) {
+            String asin = (String) card.get("asin");
+            String title = (String) card.get("title");
+            if (asin == null || title == null || !seenAsins.add(asin)) {
+                continue;
+            }
+            scanned++;
             // Anahtar kelime kontrolü - daha esnek
             if (!CommonUtils.containsAnyKeyword(title.toLowerCase(), keyword.toLowerCase(), "macbook", "mac book")) {
-                logger.debug("Product title '{}' does not contain keyword '{}'", title, keyword);
-                return null;
+                continue;
+            }
+            double price = CommonUtils.extractPriceFromText((String) card.get("price"));
+            if (price > 0 && topProducts.offer(new Product(title, price, asin))) {
+                logger.debug("Top-K candidate: {} - ${} (ASIN {})", title, price, asin);
             }
+        }
+        return scanned;
+    }
 
-            // Enhanced price extraction
-            double price = getProductPriceFromElement(productElement);
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> extractCurrentPageCards() {
+        Object cards = ((JavascriptExecutor) driver).executeScript(
+                CARD_EXTRACTOR_JS + "return extractCards(document);");
+        return cards instanceof List ? (List<Map<String, Object>>) cards : new ArrayList<>();
+    }
 
-            if (price > 0) {
-                logger.debug("Extracted product: {} - ${}", title, price);
-                return new Product(title, price, productElement);
+    /**
+     * Ek sonuç sayfalarını sayfa içinden fetch + DOMParser ile en fazla {@code concurrency} istek
+     * aynı anda olacak şekilde indirir ve her biri için aynı kart çıkarıcıyı çalıştırır.
+     * Başarısız sayfalar boş liste olarak döner.
+     */
+    @SuppressWarnings("unchecked")
+    private List<List<Map<String, Object>>> fetchPagesInParallel(List<String> pageUrls, int concurrency) {
+        List<List<Map<String, Object>>> pages = new ArrayList<>();
+        Object response;
+        try {
+            response = ((JavascriptExecutor) driver).executeAsyncScript(
+                    CARD_EXTRACTOR_JS +
+                    "var urls = arguments[0], limit = arguments[1], done = arguments[arguments.length - 1];" +
+                    "var results = new Array(urls.length), next = 0;" +
+                    "function worker() {" +
+                    "  if (next >= urls.length) { return Promise.resolve(); }" +
+                    "  var i = next++;" +
+                    "  return fetch(urls[i], {credentials: 'include'})" +
+                    "    .then(function (r) { return r.text(); })" +
+                    "    .then(function (html) { results[i] = extractCards(new DOMParser().parseFromString(html, 'text/html')); })" +
+                    "    .catch(function (e) { results[i] = {error: String(e)}; })" +
+                    "    .then(worker);" +
+                    "}" +
+                    "var workers = [];" +
+                    "for (var w = 0; w < Math.min(limit, urls.length); w++) { workers.push(worker()); }" +
+                    "Promise.all(workers).then(function () { done(results); });",
+                    pageUrls, concurrency);
+        } catch (Exception e) {
+            logger.warn("Parallel page fetch failed, continuing with first page only: {}", e.getMessage());
+            return pages;
+        }
+
+        List<Object> results = response instanceof List ? (List<Object>) response : new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            Object pageResult = results.get(i);
+            if (pageResult instanceof List) {
+                pages.add((List<Map<String, Object>>) pageResult);
             } else {
-                logger.debug("No valid price found for product: {}", title);
+                logger.warn("Result page {} could not be fetched: {}", i + 2, pageResult);
+                pages.add(new ArrayList<>());
             }
-
-        } catch (Exception e) {
-            logger.debug("Ürün bilgisi çıkarılamadı: " + e.getMessage());
         }
+        return pages;
+    }
 
-        return null;
+    /**
+     * URL'deki {@code page} parametresini verilen sayfa numarasına ayarlar.
+     */
+    static String withPageParameter(String url, int page) {
+        if (url.matches(".*[?&]page=\\d+.*")) {
+            return url.replaceAll("([?&])page=\\d+", "$1page=" + page);
+        }
+        return url + (url.contains("?") ? "&" : "?") + "page=" + page;
     }
 
+    /**
+     * Ürün detay sayfasına ASIN ile gider. Tek bir script çağrısı ile sonucu bulup tıklar;
+     * ürün artık listede değilse doğrudan /dp/ASIN adresine gider.
+     */
     public void navigateToProduct(Product product) {
-        for (int attempt = 1; attempt <= 3; attempt++) {
-            try {
-                // Ürün elementini tekrar bul (stale reference'dan kaçınmak için)
-                List<WebElement> allProducts = driver.findElements(
-                        By.cssSelector("[data-component-type='s-search-result']")
-                );
-
-                if (product.getElementIndex() < allProducts.size()) {
-                    WebElement productElement = allProducts.get(product.getElementIndex());
-                    WebElement linkElement = productElement.findElement(By.cssSelector(".a-link-normal"));
-
-                    // JavaScript ile tıkla
-                    ((JavascriptExecutor) driver).executeScript("arguments[0].click();", linkElement);
-
-                    // Navigasyonu bekle
-                    WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-                    wait.until(ExpectedConditions.not(
-                            ExpectedConditions.urlContains("/s?k=")
-                    ));
-
-                    logger.info("Ürün sayfasına başarıyla gidildi (deneme " + attempt + ")");
-                    return;
-                }
+        openProductByAsin(product.getAsin());
+        logger.info("Ürün sayfasına başarıyla gidildi: {}", product.getName());
+    }
 
-            } catch (Exception e) {
-                logger.warn("Navigasyon denemesi " + attempt + " başarısız: " + e.getMessage());
+    private void openProductByAsin(String asin) {
+        if (asin == null || asin.isEmpty()) {
+            throw new IllegalArgumentException("Product has no ASIN");
+        }
 
-                if (attempt == 3) {
-                    throw new RuntimeException("3 denemeden sonra ürün sayfasına giidilemedi", e);
-                }
+        Boolean clicked = (Boolean) ((JavascriptExecutor) driver).executeScript(
+                "var asin = arguments[0];" +
+                "var item = document.querySelector(\"[data-component-type='s-search-result'][data-asin='\" + asin + \"']\")" +
+                "        || document.querySelector(\"[data-asin='\" + asin + \"']\");" +
+                "if (!item) { return false; }" +
+                "var link = item.querySelector(\"h2 a, a[href*='/dp/\" + asin + \"'], a[href*='/dp/'], .a-link-normal\");" +
+                "if (!link) { return false; }" +
+                "link.scrollIntoView({block: 'center'});" +
+                "link.click();" +
+                "return true;", asin);
+
+        if (!Boolean.TRUE.equals(clicked)) {
+            logger.info("ASIN {} not found on results page, opening product URL directly", asin);
+            navigateTo(ConfigReader.getBaseUrl().replaceAll("/+$", "") + "/dp/" + asin,
+                    PageLoadStrategy.EAGER, ProductDetailPage.READY);
+        }
 
-                WaitUtils.sleepMillis(2000);
-            }
-        }
+        wait.until(ExpectedConditions.or(
+                ExpectedConditions.urlContains(asin),
+                ExpectedConditions.not(ExpectedConditions.urlContains("/s?k="))
+        ));
     }
 }
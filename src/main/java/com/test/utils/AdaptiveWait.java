@@ -0,0 +1,178 @@
+package com.test.utils;
+
+import com.test.config.ConfigReader;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Geri çekilen yoklama aralığıyla bekleyen ve koşula ulaşma süresini kaydeden {@link WebDriverWait}.
+ * <ul>
+ *   <li>İlk yoklamalar sık ({@code wait.poll.initial.ms}), sonrakiler {@code wait.poll.backoff} katıyla
+ *       {@code wait.poll.max.ms}'e kadar seyrekleşir: çabuk gelen koşul geç fark edilmez, uzun beklemeler de
+ *       sürücüyü komut yağmuruna tutmaz.</li>
+ *   <li>Örnekler thread ve süre başına paylaşılır ({@link #of}); her sayfa nesnesi için yenisi kurulmaz.
+ *       Sürücü değişince (yeniden başlatma) önbellek temizlenir.</li>
+ *   <li>Her bekleme, çağıran sayfa nesnesi ve koşul açıklaması ile {@link PerformanceMonitor#recordWait}'e yazılır;
+ *       varsayılan süreler bu veriden ayarlanabilir.</li>
+ * </ul>
+ */
+public class AdaptiveWait extends WebDriverWait {
+
+    /** {@code [ChromeDriver: chrome on linux (<session id>)]} as printed inside a found element's description. */
+    private static final Pattern SESSION_DETAILS = Pattern.compile("\\[[^\\[\\]]*\\([0-9a-fA-F-]{16,}\\)\\]");
+    /** {@code @1b2c3d4} identity hash codes of elements without a locator. */
+    private static final Pattern IDENTITY_HASH = Pattern.compile("(?<=\\w)@[0-9a-f]{1,8}\\b");
+
+    private static final ThreadLocal<WebDriver> CACHED_DRIVER = new ThreadLocal<>();
+    private static final ThreadLocal<Map<Duration, AdaptiveWait>> CACHE = ThreadLocal.withInitial(HashMap::new);
+
+    private final Duration timeout;
+    private final BackoffSleeper sleeper;
+
+    private AdaptiveWait(WebDriver driver, Duration timeout, BackoffSleeper sleeper) {
+        super(driver, timeout, Duration.ofMillis(ConfigReader.getWaitPollInitialMillis()), Clock.systemDefaultZone(), sleeper);
+        this.timeout = timeout;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Bu thread'in verilen sürücü ve süre için paylaşılan beklemesi.
+     * Örnekler thread'e bağlıdır; başka bir thread'e verilmemelidir.
+     */
+    public static AdaptiveWait of(WebDriver driver, Duration timeout) {
+        if (CACHED_DRIVER.get() != driver) {
+            CACHE.get().clear();
+            CACHED_DRIVER.set(driver);
+        }
+        return CACHE.get().computeIfAbsent(timeout, t -> new AdaptiveWait(driver, t, new BackoffSleeper()));
+    }
+
+    /**
+     * Açıklaması olmayan (lambda) koşullara istatistik anahtarı olacak bir ad verir.
+     */
+    public static <V> ExpectedCondition<V> named(String description, Function<? super WebDriver, V> condition) {
+        return new ExpectedCondition<V>() {
+            @Override
+            public V apply(WebDriver driver) {
+                return condition.apply(driver);
+            }
+
+            @Override
+            public String toString() {
+                return description;
+            }
+        };
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        return until(isTrue, System.nanoTime());
+    }
+
+    /**
+     * Başka bir yolla (ör. {@link EventWaits}) {@code startedNanos} anından beri beklenen koşulu, toplam süre
+     * aşılmadan yoklayarak tamamlar. Koşula ulaşma süresi {@code startedNanos}'tan itibaren ölçülür.
+     */
+    public <V> V until(Function<? super WebDriver, V> isTrue, long startedNanos) {
+        long remainingNanos = timeout.toNanos() - (System.nanoTime() - startedNanos);
+        String page = CommandTimingListener.resolveCallingPage();
+        sleeper.reset();
+        withTimeout(Duration.ofNanos(Math.max(0, remainingNanos)));
+        try {
+            V value = super.until(isTrue);
+            PerformanceMonitor.recordWait(page, describe(isTrue), System.nanoTime() - startedNanos, true);
+            return value;
+        } catch (TimeoutException e) {
+            PerformanceMonitor.recordWait(page, describe(isTrue), System.nanoTime() - startedNanos, false);
+            throw e;
+        } finally {
+            withTimeout(timeout);
+        }
+    }
+
+    /**
+     * {@link #until(Function, long)} gibi; ancak yoklama aralarında uyumak yerine {@code wakeUp} ile en fazla
+     * {@code chunk} kadar bir olay sinyali bekler (bkz. {@link EventWaits}). Koşul önce beklemeden, sonra her
+     * uyanışta Selenium'un kendi anlamıyla değerlendirilir: sinyal "henüz değil" derse en fazla bir parça kaybedilir;
+     * sinyal geldiği halde koşul tutmazsa bir sonraki ara normal geri çekilmeyle uyunur.
+     */
+    public <V> V until(Function<? super WebDriver, V> isTrue, long startedNanos, Duration chunk,
+                       Function<Duration, Boolean> wakeUp) {
+        sleeper.wakeOn(wakeUp, chunk.toNanos(), startedNanos + timeout.toNanos());
+        try {
+            return until(isTrue, startedNanos);
+        } finally {
+            sleeper.wakeOn(null, 0, 0);
+        }
+    }
+
+    /**
+     * ExpectedConditions açıklamaları bulucuyu içerir; lambda sınıf adları çalıştırmadan çalıştırmaya değiştiği için
+     * tek bir anahtarda toplanır. Bulunmuş öğelerin açıklamasındaki sürücü/oturum kimliği ve nesne karma kodları
+     * atılır, böylece aynı bulucu her senaryoda aynı satıra yazılır.
+     */
+    private static String describe(Function<?, ?> condition) {
+        String description = String.valueOf(condition);
+        if (description.contains("$$Lambda")) {
+            return "(unnamed condition)";
+        }
+        description = SESSION_DETAILS.matcher(description).replaceAll("[driver]");
+        return IDENTITY_HASH.matcher(description).replaceAll("");
+    }
+
+    /**
+     * Her çağrıda bir öncekinden daha uzun uyuyan {@link Sleeper}; her bekleme başında sıfırlanır.
+     * Uyandırıcı verilmişse uyumak yerine onu bekler.
+     */
+    private static final class BackoffSleeper implements Sleeper {
+        private final long initialMillis = Math.max(1, ConfigReader.getWaitPollInitialMillis());
+        private final long maxMillis = Math.max(initialMillis, ConfigReader.getWaitPollMaxMillis());
+        private final double backoff = Math.max(1.0, ConfigReader.getWaitPollBackoff());
+        private long nextMillis = initialMillis;
+        private Function<Duration, Boolean> wakeUp;
+        private long chunkNanos;
+        private long deadlineNanos;
+        private boolean signalled;
+
+        void reset() {
+            nextMillis = initialMillis;
+            signalled = false;
+        }
+
+        void wakeOn(Function<Duration, Boolean> wakeUp, long chunkNanos, long deadlineNanos) {
+            this.wakeUp = wakeUp;
+            this.chunkNanos = chunkNanos;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public void sleep(Duration ignored) throws InterruptedException {
+            // A signal the condition did not confirm is not awaited again right away, otherwise it would spin
+            if (wakeUp != null && !signalled) {
+                long requestedNanos = Math.min(chunkNanos, deadlineNanos - System.nanoTime());
+                if (requestedNanos > 0) {
+                    long begun = System.nanoTime();
+                    signalled = Boolean.TRUE.equals(wakeUp.apply(Duration.ofNanos(requestedNanos)));
+                    if (signalled || System.nanoTime() - begun >= requestedNanos) {
+                        return;
+                    }
+                    // Gave up early without a signal (stale element, unsupported): back off as when polling
+                }
+            }
+            signalled = false;
+            long current = nextMillis;
+            nextMillis = Math.min(maxMillis, Math.round(current * backoff));
+            Sleeper.SYSTEM_SLEEPER.sleep(Duration.ofMillis(current));
+        }
+    }
+}
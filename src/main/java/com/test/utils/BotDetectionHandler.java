@@ -3,7 +3,6 @@ package com.test.utils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import java.time.Duration;
@@ -63,11 +62,10 @@ public class BotDetectionHandler {
             String currentUrl = driver.getCurrentUrl().toLowerCase();
             
             // Check page source and URL for bot indicators
-            for (String indicator : BOT_CHECK_INDICATORS) {
-                if (pageSource.contains(indicator.toLowerCase()) || currentUrl.contains("captcha") || currentUrl.contains("challenge")) {
-                    logger.warn("Bot detection triggered: {}", indicator);
-                    return handleSpecificBotCheck(driver, indicator, pageSource);
-                }
+            String indicator = findBotIndicator(pageSource, currentUrl);
+            if (indicator != null) {
+                logger.warn("Bot detection triggered: {}", indicator);
+                return handleSpecificBotCheck(driver, indicator, pageSource);
             }
             
             // Check for visual indicators
@@ -85,6 +83,26 @@ public class BotDetectionHandler {
         }
     }
     
+    /**
+     * Find the first bot check indicator matching the given page source or URL.
+     * Pure string matching so it can be exercised against captured page sources.
+     * @param pageSource lower-cased page source
+     * @param currentUrl lower-cased current URL
+     * @return matched indicator, or null when the page looks normal
+     */
+    public static String findBotIndicator(String pageSource, String currentUrl) {
+        if (pageSource == null || currentUrl == null) {
+            return null;
+        }
+        boolean challengeUrl = currentUrl.contains("captcha") || currentUrl.contains("challenge");
+        for (String indicator : BOT_CHECK_INDICATORS) {
+            if (challengeUrl || pageSource.contains(indicator)) {
+                return indicator;
+            }
+        }
+        return null;
+    }
+    
     /**
      * Handle specific type of bot check
      */
@@ -127,8 +145,8 @@ public class BotDetectionHandler {
             
             for (By selector : CONTINUE_SHOPPING_SELECTORS) {
                 try {
-                    WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-                    WebElement button = wait.until(ExpectedConditions.elementToBeClickable(selector));
+                    WebElement button = AdaptiveWait.of(driver, Duration.ofSeconds(10))
+                            .until(ExpectedConditions.elementToBeClickable(selector));
                     
                     if (button.isDisplayed() && button.isEnabled()) {
                         // Scroll to button and add delay
@@ -307,12 +325,8 @@ public class BotDetectionHandler {
             String pageSource = driver.getPageSource().toLowerCase();
             String currentUrl = driver.getCurrentUrl().toLowerCase();
             
-            for (String indicator : BOT_CHECK_INDICATORS) {
-                if (pageSource.contains(indicator.toLowerCase()) || 
-                    currentUrl.contains("captcha") || 
-                    currentUrl.contains("challenge")) {
-                    return true;
-                }
+            if (findBotIndicator(pageSource, currentUrl) != null) {
+                return true;
             }
             
             return hasVisualBotIndicators(driver);
@@ -394,6 +408,11 @@ public class BotDetectionHandler {
     private static void scrollToElementSmoothly(WebDriver driver, WebElement element) {
         try {
             JavascriptExecutor js = (JavascriptExecutor) driver;
+            if (DriverManager.getProfile().isFast()) {
+                // Fast profile disables smooth scrolling, so there is no animation to wait for
+                js.executeScript("arguments[0].scrollIntoView({block: 'center'});", element);
+                return;
+            }
             js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", element);
             CommonUtils.waitForMillis(1500); // Wait for smooth scroll
         } catch (Exception e) {
@@ -0,0 +1,317 @@
+package com.test.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.CapabilityType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Birden fazla senaryoyu tek bir Chrome sürecinde barındıran paylaşılan tarayıcı.
+ * İlk oturum Chrome'u başlatır (host oturumu); senaryolar {@code debuggerAddress} ile aynı sürece bağlanan
+ * kendi ChromeDriver oturumlarını alır. Her senaryo DevTools {@code Target.createBrowserContext} ile
+ * izole bir tarayıcı bağlamında (ayrı çerez/depolama) kendi penceresini açar. Senaryoların ayrı
+ * WebDriver oturumları olduğundan paralel çalışırken pencere değiştirme yarışları olmaz.
+ */
+public final class BrowserHost {
+
+    private static final Logger logger = LogManager.getLogger(BrowserHost.class);
+
+    private static final List<BrowserHost> HOSTS = new ArrayList<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(BrowserHost::shutdownAll, "browser-host-shutdown"));
+    }
+
+    private final BrowserProfile profile;
+    /** Host Chrome'u {@code HOSTS} kilidi dışında başlatılır; o sırada yer ayıran thread'ler bunu bekler. */
+    private final CompletableFuture<Void> started = new CompletableFuture<>();
+    private volatile ChromeDriver hostDriver;
+    private volatile String debuggerAddress;
+    private volatile ProcessReaper.Tracked processes;
+    private final List<ContextLease> leases = new ArrayList<>();
+    private int activeLeases;
+    private boolean evicted;
+
+    private BrowserHost(BrowserProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * Aynı profille çalışan ve boş yeri olan bir host üzerinde izole bir bağlam kiralar; yoksa yeni bir host başlatır.
+     * Tarayıcı bayrakları süreç genelinde olduğundan her profilin kendi host'ları vardır.
+     * @param profile senaryonun tarayıcı profili; pencere boyutu da buradan alınır
+     * @param hostOptions yeni host başlatılırken kullanılacak Chrome seçenekleri
+     * @param contextsPerHost bir host'taki azami eşzamanlı bağlam sayısı
+     */
+    public static ContextLease acquire(BrowserProfile profile, ChromeOptions hostOptions, int contextsPerHost) {
+        releaseStaleLeases();
+        BrowserHost host = reserveSlot(profile, hostOptions, contextsPerHost);
+        ChromeDriver session = null;
+        try {
+            ChromeOptions attach = new ChromeOptions();
+            attach.setExperimentalOption("debuggerAddress", host.debuggerAddress);
+            // Page load strategy is a per-session setting, not a browser flag
+            Object loadStrategy = hostOptions.getCapability(CapabilityType.PAGE_LOAD_STRATEGY);
+            if (loadStrategy != null) {
+                attach.setCapability(CapabilityType.PAGE_LOAD_STRATEGY, loadStrategy);
+            }
+            session = new ChromeDriver(ChromeDriverService.createDefaultService(), attach, DriverManager.commandClientConfig());
+
+            Map<String, Object> context = session.executeCdpCommand("Target.createBrowserContext",
+                    Map.of("disposeOnDetach", false));
+            String browserContextId = (String) context.get("browserContextId");
+
+            Map<String, Object> targetParams = new HashMap<>();
+            targetParams.put("url", "about:blank");
+            targetParams.put("browserContextId", browserContextId);
+            targetParams.put("newWindow", true);
+            targetParams.put("width", profile.getWindowWidth());
+            targetParams.put("height", profile.getWindowHeight());
+            String targetId = (String) session.executeCdpCommand("Target.createTarget", targetParams).get("targetId");
+
+            // ChromeDriver pencere tanıtıcıları DevTools target id'leridir
+            session.switchTo().window(targetId);
+            logger.info("Leased browser context {} on host {} ({} active)", browserContextId, host.debuggerAddress, host.activeLeases);
+            ContextLease lease = new ContextLease(host, session, browserContextId, targetId);
+            synchronized (HOSTS) {
+                host.leases.add(lease);
+            }
+            return lease;
+        } catch (RuntimeException e) {
+            if (session != null) {
+                try {
+                    session.quit();
+                } catch (RuntimeException ignored) {
+                    // Attached session may already be gone
+                }
+            }
+            host.releaseSlot(null);
+            throw e;
+        }
+    }
+
+    /**
+     * Aynı profilde boş yeri olan bir host'ta yer ayırır; yoksa kilit altında yer tutucu bir host ekleyip Chrome'u
+     * kilit dışında başlatır, böylece diğer kiralama ve bırakmalar saniyeler süren başlatmayı beklemez.
+     * Seçilen host'un tarayıcısı çökmüşse host çıkarılır ve başka bir host denenir.
+     */
+    private static BrowserHost reserveSlot(BrowserProfile profile, ChromeOptions hostOptions, int contextsPerHost) {
+        while (true) {
+            BrowserHost host = null;
+            boolean launch = false;
+            synchronized (HOSTS) {
+                for (BrowserHost candidate : HOSTS) {
+                    if (candidate.profile == profile && candidate.activeLeases < contextsPerHost) {
+                        host = candidate;
+                        break;
+                    }
+                }
+                if (host == null) {
+                    host = new BrowserHost(profile);
+                    HOSTS.add(host);
+                    launch = true;
+                }
+                host.activeLeases++;
+            }
+            if (launch) {
+                host.start(hostOptions);
+                return host;
+            }
+            if (host.isUsable()) {
+                return host;
+            }
+            host.releaseSlot(null);
+            host.evict();
+        }
+    }
+
+    private void start(ChromeOptions hostOptions) {
+        try {
+            ChromeDriverService service = ChromeDriverService.createDefaultService();
+            ChromeDriver driver = new ChromeDriver(service, hostOptions, DriverManager.commandClientConfig());
+            debuggerAddress = debuggerAddressOf(driver);
+            processes = ProcessReaper.trackShared(
+                    ProcessReaper.findServiceProcess(service).orElse(null), "browser-host@" + debuggerAddress);
+            hostDriver = driver;
+            started.complete(null);
+            logger.info("Started shared browser host at {}", debuggerAddress);
+        } catch (RuntimeException e) {
+            started.completeExceptionally(e);
+            synchronized (HOSTS) {
+                HOSTS.remove(this);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Başlatılması bitmiş ve tarayıcısı hâlâ yanıt veren host mu. Çöken Chrome'a bağlanmaya çalışmak yerine
+     * host oturumuna ucuz bir CDP komutu gönderilir.
+     */
+    private boolean isUsable() {
+        try {
+            started.join();
+            hostDriver.executeCdpCommand("Browser.getVersion", Map.of());
+            return true;
+        } catch (CompletionException e) {
+            logger.debug("Browser host failed to start: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            return false;
+        } catch (RuntimeException e) {
+            logger.warn("Browser host {} is not responding, evicting it: {}", debuggerAddress, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Host'u listeden çıkarır ve kalan süreçlerini kapatır; yalnızca bir kez çalışır.
+     */
+    private void evict() {
+        synchronized (HOSTS) {
+            if (evicted) {
+                return;
+            }
+            evicted = true;
+            HOSTS.remove(this);
+        }
+        if (hostDriver == null) {
+            return;
+        }
+        try {
+            hostDriver.quit();
+        } catch (RuntimeException e) {
+            logger.debug("Quitting dead browser host {} failed: {}", debuggerAddress, e.getMessage());
+        } finally {
+            ProcessReaper.release(processes);
+        }
+    }
+
+    private void releaseSlot(ContextLease lease) {
+        synchronized (HOSTS) {
+            activeLeases--;
+            leases.remove(lease);
+        }
+    }
+
+    /**
+     * Sahibi olan thread'i artık çalışmayan (senaryosu bağlamı bırakmadan ölmüş) kiralamaları serbest bırakır,
+     * böylece yerleri ve bağlamları paylaşılan tarayıcıda birikmez.
+     */
+    private static void releaseStaleLeases() {
+        List<ContextLease> stale = new ArrayList<>();
+        synchronized (HOSTS) {
+            for (BrowserHost host : HOSTS) {
+                for (ContextLease lease : host.leases) {
+                    if (!lease.owner.isAlive()) {
+                        stale.add(lease);
+                    }
+                }
+            }
+        }
+        for (ContextLease lease : stale) {
+            logger.warn("Releasing stale browser context {} of finished thread {}", lease.browserContextId, lease.owner.getName());
+            lease.release();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String debuggerAddressOf(ChromeDriver driver) {
+        Object chromeOptions = driver.getCapabilities().getCapability("goog:chromeOptions");
+        if (chromeOptions instanceof Map) {
+            Object address = ((Map<String, Object>) chromeOptions).get("debuggerAddress");
+            if (address != null) {
+                return address.toString();
+            }
+        }
+        driver.quit();
+        throw new IllegalStateException("Chrome did not report a debuggerAddress; context multiplexing is unavailable");
+    }
+
+    /**
+     * Aktif bağlamı olan ve olmayan tüm host'ları kapatır.
+     */
+    public static void shutdownAll() {
+        synchronized (HOSTS) {
+            for (BrowserHost host : HOSTS) {
+                if (host.hostDriver == null) {
+                    // Still starting; there is no host session to quit yet
+                    continue;
+                }
+                try {
+                    host.hostDriver.quit();
+                } catch (RuntimeException e) {
+                    logger.warn("Error while quitting browser host {}: {}", host.debuggerAddress, e.getMessage());
+                } finally {
+                    ProcessReaper.release(host.processes);
+                }
+            }
+            if (!HOSTS.isEmpty()) {
+                logger.info("Shut down {} shared browser host(s)", HOSTS.size());
+            }
+            HOSTS.clear();
+        }
+    }
+
+    /**
+     * Bir senaryoya kiralanmış izole tarayıcı bağlamı.
+     */
+    public static final class ContextLease {
+        private final BrowserHost host;
+        private final ChromeDriver driver;
+        private final String browserContextId;
+        private final String targetId;
+        private final Thread owner = Thread.currentThread();
+        private boolean released;
+
+        private ContextLease(BrowserHost host, ChromeDriver driver, String browserContextId, String targetId) {
+            this.host = host;
+            this.driver = driver;
+            this.browserContextId = browserContextId;
+            this.targetId = targetId;
+        }
+
+        public ChromeDriver getDriver() { return driver; }
+        public String getBrowserContextId() { return browserContextId; }
+        public String getTargetId() { return targetId; }
+
+        /**
+         * Bağlı oturumu sonlandırır, pencereyi ve bağlamı host oturumu üzerinden kapatır; paylaşılan tarayıcı açık kalır.
+         * Komutlar host'un kendi penceresinden gider, başka senaryoların pencerelerine geçilmez.
+         */
+        public void release() {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            try {
+                driver.quit();
+            } catch (RuntimeException e) {
+                logger.debug("Attached session quit failed: {}", e.getMessage());
+            }
+            try {
+                host.hostDriver.executeCdpCommand("Target.disposeBrowserContext", Map.of("browserContextId", browserContextId));
+            } catch (RuntimeException e) {
+                logger.warn("Could not dispose browser context {}, closing its window: {}", browserContextId, e.getMessage());
+                try {
+                    host.hostDriver.executeCdpCommand("Target.closeTarget", Map.of("targetId", targetId));
+                } catch (RuntimeException closeFailure) {
+                    logger.warn("Could not close window {} of browser context {}: {}", targetId, browserContextId,
+                            closeFailure.getMessage());
+                }
+            } finally {
+                host.releaseSlot(this);
+                logger.debug("Released browser context {}", browserContextId);
+            }
+        }
+    }
+}
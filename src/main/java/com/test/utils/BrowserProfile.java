@@ -0,0 +1,81 @@
+package com.test.utils;
+
+import com.test.config.ConfigReader;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Senaryonun tarayıcı profili.
+ * {@link #FAST_FUNCTIONAL} sayfa başı maliyeti düşürür: küçük görüntü alanı, resimler kapalı, animasyon/geçişler ve
+ * yumuşak kaydırma devre dışı, {@code eager} sayfa yükleme ve sınırlı renderer süreci. Görsel doğruluk isteyen
+ * senaryolar {@link #FULL_FIDELITY} ile çalışır. Profil senaryo etiketlerinden seçilir (bkz. {@link #forTags}).
+ */
+public enum BrowserProfile {
+    FULL_FIDELITY(1920, 1080),
+    FAST_FUNCTIONAL(1280, 800);
+
+    /**
+     * Hızlı profilde her belgeye en başta eklenen betik: animasyon, geçiş ve yumuşak kaydırmayı kapatan stil.
+     */
+    public static final String DISABLE_MOTION_JS =
+            "(function () {" +
+            "  var css = '*, *::before, *::after {' +" +
+            "    'animation-duration: 0s !important; animation-delay: 0s !important;' +" +
+            "    'transition-duration: 0s !important; transition-delay: 0s !important;' +" +
+            "    'scroll-behavior: auto !important; }';" +
+            "  function inject() {" +
+            "    if (document.getElementById('__fast-mode-style')) { return; }" +
+            "    var style = document.createElement('style');" +
+            "    style.id = '__fast-mode-style';" +
+            "    style.textContent = css;" +
+            "    (document.head || document.documentElement).appendChild(style);" +
+            "  }" +
+            "  if (document.documentElement) { inject(); }" +
+            "  document.addEventListener('DOMContentLoaded', inject);" +
+            "})();";
+
+    private final int windowWidth;
+    private final int windowHeight;
+
+    BrowserProfile(int windowWidth, int windowHeight) {
+        this.windowWidth = windowWidth;
+        this.windowHeight = windowHeight;
+    }
+
+    public int getWindowWidth() { return windowWidth; }
+    public int getWindowHeight() { return windowHeight; }
+
+    public boolean isFast() {
+        return this == FAST_FUNCTIONAL;
+    }
+
+    /**
+     * Etiketlere göre profil seçer: görsel etiketler her zaman tam doğruluk, hızlı etiketler hızlı profil,
+     * hiçbiri yoksa {@code browser.profile.default}.
+     * @param tags senaryo etiketleri ({@code @} ile)
+     */
+    public static BrowserProfile forTags(Collection<String> tags) {
+        if (containsAny(tags, ConfigReader.getVisualProfileTags())) {
+            return FULL_FIDELITY;
+        }
+        if (containsAny(tags, ConfigReader.getFastProfileTags())) {
+            return FAST_FUNCTIONAL;
+        }
+        return fromName(ConfigReader.getDefaultBrowserProfile());
+    }
+
+    /**
+     * "fast" ya da "full" (büyük/küçük harf duyarsız); tanınmayan değer tam doğruluk demektir.
+     */
+    public static BrowserProfile fromName(String name) {
+        return "fast".equals(name == null ? "" : name.trim().toLowerCase(Locale.ROOT)) ? FAST_FUNCTIONAL : FULL_FIDELITY;
+    }
+
+    private static boolean containsAny(Collection<String> tags, String configuredTags) {
+        return Arrays.stream(configuredTags.split(","))
+                .map(String::trim)
+                .anyMatch(tag -> !tag.isEmpty() && tags.contains(tag));
+    }
+}
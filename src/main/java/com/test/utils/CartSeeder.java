@@ -0,0 +1,148 @@
+package com.test.utils;
+
+import com.test.config.ConfigReader;
+import com.test.model.CartSnapshot;
+import com.test.pages.CartPage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sepeti ürün sayfası arayüzünü kullanmadan toplu olarak dolduran yardımcı sınıf.
+ * Tüm ASIN/miktar çiftleri tek bir form gönderimiyle Amazon'un çoklu sepete ekleme adresine
+ * ({@code ASIN.n} / {@code Quantity.n} parametreleri) iletilir; adres test sunucusuna yönlendirilebilir.
+ */
+public final class CartSeeder {
+
+    private static final Logger logger = LogManager.getLogger(CartSeeder.class);
+
+    // Onay sayfasındaki "Add to cart" butonu varyasyonları
+    private static final By CONFIRM_BUTTON = By.cssSelector(
+            "input[name='add'], input[name='submit.add-to-cart'], #addToCart input[type='submit'], form[action*='cart'] input[type='submit']");
+
+    private static final String SUBMIT_FORM_JS =
+            "var action = arguments[0], items = arguments[1];" +
+            "var form = document.createElement('form');" +
+            "form.method = 'GET';" +
+            "form.action = action;" +
+            "var n = 1;" +
+            "Object.keys(items).forEach(function (asin) {" +
+            "  [['ASIN.' + n, asin], ['Quantity.' + n, String(items[asin])]].forEach(function (pair) {" +
+            "    var input = document.createElement('input');" +
+            "    input.type = 'hidden'; input.name = pair[0]; input.value = pair[1];" +
+            "    form.appendChild(input);" +
+            "  });" +
+            "  n++;" +
+            "});" +
+            "document.body.appendChild(form);" +
+            "form.submit();";
+
+    private CartSeeder() {
+        // Utility class
+    }
+
+    /**
+     * Verilen ASIN'leri miktarlarıyla tek istekte sepete ekler ve sepet sayfasını döner.
+     * Eklenemeyen ASIN'ler uyarı olarak loglanır; çağıran {@link #findMissing} ile doğrulamalıdır.
+     * @param driver aktif WebDriver
+     * @param asinQuantities ASIN -> miktar (ekleme sırası korunur)
+     * @return sepet sayfası
+     */
+    public static CartPage seed(WebDriver driver, Map<String, Integer> asinQuantities) {
+        if (asinQuantities == null || asinQuantities.isEmpty()) {
+            throw new IllegalArgumentException("At least one ASIN is required to seed the cart");
+        }
+        long start = System.currentTimeMillis();
+        String baseUrl = ConfigReader.getBaseUrl();
+        logger.info("Seeding cart with {} products: {}", asinQuantities.size(), asinQuantities);
+
+        // Form aynı origin'den gönderilmeli ki oturum çerezleri taşınsın
+        if (!driver.getCurrentUrl().startsWith(baseUrl)) {
+            driver.get(baseUrl);
+        }
+
+        String seedUrl = resolve(baseUrl, ConfigReader.getCartSeedUrl());
+        navigateBy(driver, "bulk add-to-cart form", () -> ((JavascriptExecutor) driver).executeScript(SUBMIT_FORM_JS,
+                seedUrl, new LinkedHashMap<>(asinQuantities)));
+
+        // Amazon önce bir onay sayfası gösterir; test sunucusu doğrudan sepete yönlendirebilir
+        List<WebElement> confirm = driver.findElements(CONFIRM_BUTTON);
+        if (!confirm.isEmpty()) {
+            logger.debug("Confirming bulk add-to-cart");
+            WebElement button = confirm.get(0);
+            navigateBy(driver, "bulk add-to-cart confirmation",
+                    () -> ((JavascriptExecutor) driver).executeScript("arguments[0].click();", button));
+        }
+
+        String cartUrl = resolve(baseUrl, ConfigReader.getCartUrl());
+        if (!driver.getCurrentUrl().startsWith(cartUrl)) {
+            driver.get(cartUrl);
+        }
+
+        CartPage cartPage = new CartPage(driver);
+        Map<String, Integer> missing = findMissing(cartPage.getSnapshot(), asinQuantities);
+        if (!missing.isEmpty()) {
+            logger.warn("Not in the cart after seeding (ASIN=missing quantity; unavailable or not sold by Amazon?): {}", missing);
+        }
+        logger.info("Cart seeded in {} ms", System.currentTimeMillis() - start);
+        return cartPage;
+    }
+
+    /**
+     * Sepette beklenen miktarda bulunmayan ASIN'leri eksik miktarlarıyla döner; sepet tamamsa boş map.
+     * Sepette önceden bulunan ürünler nedeniyle fazlası eksik sayılmaz.
+     * @param snapshot tohumlamadan sonraki sepet görüntüsü
+     * @param expected ASIN -> istenen miktar
+     * @return ASIN -> eksik miktar (istenen sırayla)
+     */
+    public static Map<String, Integer> findMissing(CartSnapshot snapshot, Map<String, Integer> expected) {
+        Map<String, Integer> inCart = new LinkedHashMap<>();
+        for (CartSnapshot.Item item : snapshot.getItems()) {
+            inCart.merge(item.getAsin(), item.getQuantity(), Integer::sum);
+        }
+        Map<String, Integer> missing = new LinkedHashMap<>();
+        expected.forEach((asin, quantity) -> {
+            int shortBy = quantity - inCart.getOrDefault(asin, 0);
+            if (shortBy > 0) {
+                missing.put(asin, shortBy);
+            }
+        });
+        return missing;
+    }
+
+    /**
+     * Verilen işlemin başlattığı navigasyonu bekler. Eski belge hâlâ {@code complete} göründüğünden yalnızca yükleme
+     * beklemesi navigasyon başlamadan dönebilir; önce eski {@code <html>} kökünün bayatlaması ya da adresin
+     * değişmesi beklenir, sonra yeni belgenin yüklenmesi.
+     */
+    private static void navigateBy(WebDriver driver, String action, Runnable trigger) {
+        WebElement oldRoot = driver.findElement(By.tagName("html"));
+        String oldUrl = driver.getCurrentUrl();
+        trigger.run();
+        try {
+            AdaptiveWait.of(driver, Duration.ofSeconds(ConfigReader.getExplicitWait())).until(ExpectedConditions.or(
+                    ExpectedConditions.stalenessOf(oldRoot),
+                    ExpectedConditions.not(ExpectedConditions.urlToBe(oldUrl))));
+        } catch (TimeoutException e) {
+            throw new TimeoutException("No navigation after submitting the " + action + " from " + oldUrl, e);
+        }
+        WaitUtils.of(driver).waitForPageToLoad();
+    }
+
+    private static String resolve(String baseUrl, String path) {
+        if (path.startsWith("http://") || path.startsWith("https://")) {
+            return path;
+        }
+        return baseUrl.replaceAll("/+$", "") + "/" + path.replaceAll("^/+", "");
+    }
+}
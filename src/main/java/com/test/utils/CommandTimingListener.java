@@ -0,0 +1,87 @@
+package com.test.utils;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * WebDriver komutlarını zamanlayan dinleyici.
+ * {@link org.openqa.selenium.support.events.EventFiringDecorator} ile sürücüye bağlanır; her komutun süresini
+ * komut adı ve komutu çağıran sayfa nesnesi (HomePage, SearchResultsPage...) ile {@link PerformanceMonitor}'e yazar.
+ */
+public class CommandTimingListener implements WebDriverListener {
+
+    private static final String PAGES_PACKAGE = "com.test.pages.";
+    private static final String BASE_PAGE = PAGES_PACKAGE + "BasePage";
+    private static final String NO_PAGE = "(no-page)";
+
+    /** Yalnızca yerel proxy döndüren, sürücüye gitmeyen çağrılar. */
+    private static final Set<String> LOCAL_ACCESSORS = Set.of(
+            "manage", "navigate", "switchTo", "timeouts", "window", "getWrappedDriver", "getWrappedElement");
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final ThreadLocal<Deque<long[]>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (isTimed(method)) {
+            startTimes.get().push(new long[]{System.nanoTime()});
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(method);
+    }
+
+    private void record(Method method) {
+        if (!isTimed(method)) {
+            return;
+        }
+        Deque<long[]> stack = startTimes.get();
+        long[] start = stack.poll();
+        if (start == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start[0];
+        PerformanceMonitor.recordCommand(resolveCallingPage(), method.getName(), elapsed);
+    }
+
+    private static boolean isTimed(Method method) {
+        return method.getDeclaringClass() != Object.class && !LOCAL_ACCESSORS.contains(method.getName());
+    }
+
+    /**
+     * Çağrı yığınındaki ilk sayfa nesnesini bulur. BasePage yardımcıları atlanır ki
+     * click/sendKeys gibi ortak metotlar asıl sayfaya yazılsın.
+     */
+    static String resolveCallingPage() {
+        return STACK_WALKER.walk(frames -> {
+            boolean sawBasePage = false;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (!className.startsWith(PAGES_PACKAGE)) {
+                    continue;
+                }
+                int nested = className.indexOf('$');
+                String outer = nested > 0 ? className.substring(0, nested) : className;
+                if (BASE_PAGE.equals(outer)) {
+                    sawBasePage = true;
+                    continue;
+                }
+                return outer.substring(PAGES_PACKAGE.length());
+            }
+            return sawBasePage ? "BasePage" : NO_PAGE;
+        });
+    }
+}
@@ -0,0 +1,202 @@
+package com.test.utils;
+
+import com.test.config.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Eşzamanlı tarayıcı oturumu sayısını makinenin durumuna göre ayarlayan denetleyici.
+ * Senaryo iş parçacığı havuzu üst sınır ({@link #getMaxConcurrency()}) kadar açılır; her senaryo tarayıcıyı
+ * başlatmadan önce {@link #acquire()} ile yer alır, bittiğinde {@link #release()} ile bırakır.
+ * <p>
+ * Başlangıç sınırı çekirdek sayısı ve boş bellekten hesaplanır. Her değerlendirme penceresinde:
+ * <ul>
+ *   <li>bellek (ölçülen oturum başı tepe RSS ile) ya da CPU yükü yetmiyorsa sınır düşürülür,</li>
+ *   <li>komut gecikmesi p90'ı en iyi pencerenin {@code latency.factor} katını aşarsa sınır düşürülür,</li>
+ *   <li>aksi halde sınır bir artırılır; artış senaryo/dakika verimini iyileştirmediyse geri alınır ve
+ *       birkaç pencere beklenir (salınımı önlemek için).</li>
+ * </ul>
+ */
+public final class ConcurrencyController {
+
+    private static final Logger logger = LogManager.getLogger(ConcurrencyController.class);
+    private static final ConcurrencyController INSTANCE = new ConcurrencyController();
+
+    /** Verim artışı bu oranın altındaysa artış kazançsız sayılır. */
+    private static final double MIN_THROUGHPUT_GAIN = 1.05;
+    /** Gecikme sinyali için pencerede gereken en az komut sayısı. */
+    private static final long MIN_LATENCY_SAMPLES = 50;
+    /** Geri alınan bir artıştan sonra beklenen pencere sayısı. */
+    private static final int COOLDOWN_WINDOWS = 2;
+
+    private final int cores = Runtime.getRuntime().availableProcessors();
+    private final boolean adaptive = ConfigReader.isAdaptiveConcurrencyEnabled();
+    private final int minimum = Math.max(1, ConfigReader.getMinConcurrency());
+    private final int maximum;
+    private final long windowNanos = ConfigReader.getConcurrencyWindowSeconds() * 1_000_000_000L;
+
+    private int limit;
+    private int active;
+    private long windowStartNanos = System.nanoTime();
+    private int completedInWindow;
+    private double lastThroughput = -1;
+    private int lastStep;
+    private int cooldown;
+    private double baselineP90Micros;
+
+    private ConcurrencyController() {
+        int configuredMax = ConfigReader.getMaxConcurrency();
+        maximum = Math.max(minimum, configuredMax > 0 ? configuredMax : cores);
+        if (adaptive) {
+            // Tavanın yarısıyla başlanır, verim ölçüldükçe tırmanılır
+            limit = Math.max(minimum, (resourceCeiling() + 1) / 2);
+        } else {
+            limit = maximum;
+        }
+        logger.info("Scenario concurrency: start {} (min {}, max {}, {} cores, adaptive {})",
+                limit, minimum, maximum, cores, adaptive);
+    }
+
+    public static ConcurrencyController getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Senaryo iş parçacığı havuzunun boyutu; etkin sınır bunun altında değişir.
+     */
+    public int getMaxConcurrency() {
+        return maximum;
+    }
+
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    public synchronized int getActive() {
+        return active;
+    }
+
+    /**
+     * Etkin sınırın altında bir yer açılana kadar bekler.
+     */
+    public synchronized void acquire() throws InterruptedException {
+        while (active >= limit) {
+            wait();
+        }
+        active++;
+    }
+
+    /**
+     * Yeri bırakır; değerlendirme penceresi dolduysa sınırı yeniden hesaplar.
+     */
+    public synchronized void release() {
+        active = Math.max(0, active - 1);
+        completedInWindow++;
+        if (adaptive) {
+            evaluate();
+        }
+        notifyAll();
+    }
+
+    private void evaluate() {
+        long elapsed = System.nanoTime() - windowStartNanos;
+        if (elapsed < windowNanos || completedInWindow < 2) {
+            return;
+        }
+        double throughput = completedInWindow * 60_000_000_000.0 / elapsed;
+        LatencyHistogram window = PerformanceMonitor.swapCommandWindow();
+        double p90 = window.getCount() >= MIN_LATENCY_SAMPLES ? window.getValueAtPercentile(90) : -1;
+        int ceiling = resourceCeiling();
+
+        int previous = limit;
+        String reason;
+        if (limit > ceiling) {
+            limit = ceiling;
+            reason = "resource pressure";
+        } else if (p90 > 0 && baselineP90Micros > 0 && p90 > baselineP90Micros * ConfigReader.getConcurrencyLatencyFactor()) {
+            limit = Math.max(minimum, limit - 1);
+            reason = "command latency";
+        } else if (cooldown > 0) {
+            cooldown--;
+            reason = "cooldown";
+        } else if (lastStep > 0 && lastThroughput > 0 && throughput < lastThroughput * MIN_THROUGHPUT_GAIN) {
+            limit = Math.max(minimum, limit - 1);
+            cooldown = COOLDOWN_WINDOWS;
+            reason = "no throughput gain";
+        } else if (limit < ceiling) {
+            limit++;
+            reason = "headroom";
+        } else {
+            reason = "at ceiling";
+        }
+        lastStep = Integer.compare(limit, previous);
+        if (p90 > 0 && (baselineP90Micros == 0 || p90 < baselineP90Micros)) {
+            baselineP90Micros = p90;
+        }
+        logger.info("Scenario concurrency {} -> {} ({}): {} scenarios/min, command p90 {} ms, ceiling {}",
+                previous, limit, reason, String.format(Locale.ROOT, "%.1f", throughput),
+                p90 > 0 ? String.format(Locale.ROOT, "%.1f", p90 / 1000.0) : "n/a", ceiling);
+
+        lastThroughput = throughput;
+        completedInWindow = 0;
+        windowStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Bellek ve CPU'nun şu an taşıyabileceği oturum sayısı ([minimum, maximum] aralığında).
+     * Bellek sınırı, çalışan oturumlara boş bellekle açılabilecek yeni oturumlar eklenerek bulunur.
+     */
+    private int resourceCeiling() {
+        int ceiling = Math.min(maximum, cores);
+
+        long perSessionKb = ProcessReaper.getAverageSessionPeakRssKb();
+        if (perSessionKb <= 0) {
+            perSessionKb = ConfigReader.getBrowserMemoryEstimateMb() * 1024L;
+        }
+        long availableKb = availableMemoryKb();
+        if (availableKb > 0) {
+            long spareKb = availableKb - ConfigReader.getMemoryReserveMb() * 1024L;
+            long memoryBound = active + Math.floorDiv(spareKb, perSessionKb);
+            ceiling = (int) Math.min(ceiling, memoryBound);
+        }
+
+        double load = ManagementFactory.getOperatingSystemMXBean().getSystemLoadAverage();
+        if (load > cores * 1.5) {
+            ceiling = Math.min(ceiling, Math.max(1, active - 1));
+        }
+        return Math.max(minimum, Math.min(ceiling, maximum));
+    }
+
+    /**
+     * Kullanılabilir bellek (kB): Linux'ta {@code MemAvailable}, diğer sistemlerde boş fiziksel bellek; bilinmiyorsa -1.
+     */
+    private static long availableMemoryKb() {
+        try (Stream<String> lines = Files.lines(Paths.get("/proc/meminfo"), StandardCharsets.UTF_8)) {
+            long kb = lines.filter(l -> l.startsWith("MemAvailable:"))
+                    .findFirst()
+                    .map(l -> Long.parseLong(l.replaceAll("[^0-9]", "")))
+                    .orElse(-1L);
+            if (kb > 0) {
+                return kb;
+            }
+        } catch (IOException | RuntimeException ignored) {
+            // Not Linux
+        }
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            @SuppressWarnings("deprecation")
+            long free = ((com.sun.management.OperatingSystemMXBean) os).getFreePhysicalMemorySize();
+            return free / 1024;
+        }
+        return -1;
+    }
+}
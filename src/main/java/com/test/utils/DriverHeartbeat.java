@@ -0,0 +1,105 @@
+package com.test.utils;
+
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Testlerin zaten gönderdiği komutlardan WebDriver oturumunun canlılığını izleyen dinleyici.
+ * Yanıtlanan her komut (oturumun yanıt verdiğini kanıtlayan NoSuchElement gibi eleman hataları dahil)
+ * kalp atışını yeniler; yalnızca oturum düzeyindeki hatalar oturumu bozuk işaretler. Böylece sağlık kontrolü
+ * komutlar başarılı olduğu sürece ek bir yoklama isteği göndermez; ölü sürücü servisi ise süreç tanıtıcısından,
+ * servisle hiç konuşmadan anlaşılır.
+ */
+public final class DriverHeartbeat implements WebDriverListener {
+
+    /** Yalnızca yerel proxy döndüren, sürücüye gitmeyen çağrılar. */
+    private static final Set<String> LOCAL_ACCESSORS = Set.of(
+            "manage", "navigate", "switchTo", "timeouts", "window", "getWrappedDriver", "getWrappedElement");
+
+    private final ProcessHandle driverProcess;
+    private volatile long lastSuccessNanos = System.nanoTime();
+    private volatile long lastFatalNanos;
+    private volatile String lastFatalError;
+
+    /**
+     * @param driverProcess sürücü servis süreci (chromedriver, geckodriver...); bilinmiyorsa null
+     */
+    public DriverHeartbeat(ProcessHandle driverProcess) {
+        this.driverProcess = driverProcess;
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        if (LOCAL_ACCESSORS.contains(method.getName())) {
+            return;
+        }
+        lastSuccessNanos = System.nanoTime();
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        Throwable cause = e.getCause();
+        if (isSessionFatal(cause)) {
+            lastFatalNanos = System.nanoTime();
+            lastFatalError = cause.getClass().getSimpleName() + ": " + firstLine(cause.getMessage());
+        } else {
+            lastSuccessNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Sürücü servis süreci çalışıyor mu; süreç bilinmiyorsa true.
+     */
+    public boolean isDriverProcessAlive() {
+        return driverProcess == null || driverProcess.isAlive();
+    }
+
+    public ProcessHandle getDriverProcess() {
+        return driverProcess;
+    }
+
+    public long getMillisSinceLastSuccess() {
+        return (System.nanoTime() - lastSuccessNanos) / 1_000_000L;
+    }
+
+    /**
+     * Son oturum düzeyindeki hata, yanıtlanan son komuttan sonra mı oluştu.
+     */
+    public boolean hasFailedSinceLastSuccess() {
+        return lastFatalNanos != 0 && lastFatalNanos - lastSuccessNanos > 0;
+    }
+
+    public String getLastFatalError() {
+        return lastFatalError;
+    }
+
+    /**
+     * Gerçek bir yoklama yalnızca oturum eşikten uzun süre sessiz kaldıysa
+     * ya da son komutu oturum düzeyinde hata verdiyse gerekir.
+     */
+    public boolean needsProbe(long silenceMillis) {
+        return hasFailedSinceLastSuccess() || getMillisSinceLastSuccess() > silenceMillis;
+    }
+
+    static boolean isSessionFatal(Throwable error) {
+        if (error instanceof NoSuchSessionException || error instanceof UnreachableBrowserException) {
+            return true;
+        }
+        String message = error == null ? null : error.getMessage();
+        return message != null && (message.contains("not reachable") || message.contains("disconnected:")
+                || message.contains("Connection refused"));
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+}
@@ -4,15 +4,31 @@ import com.test.config.ConfigReader;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.chromium.HasCdp;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.Map;
 
 /**
  * Centralised WebDriver lifecycle manager.
@@ -23,6 +39,37 @@ public final class DriverManager {
 
     private static final Logger logger = LogManager.getLogger(DriverManager.class);
     private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+    /** Browser context leased on a shared browser (multiplex mode only). */
+    private static final ThreadLocal<BrowserHost.ContextLease> CONTEXT_LEASE = new ThreadLocal<>();
+    /** Liveness tracker fed by the current driver's own commands. */
+    private static final ThreadLocal<DriverHeartbeat> HEARTBEAT = new ThreadLocal<>();
+    /** Driver service process of the driver being created on this thread, if it could be identified. */
+    private static final ThreadLocal<ProcessHandle> CREATED_SERVICE_PROCESS = new ThreadLocal<>();
+    /** Process tree of the current driver, reaped and accounted when the driver quits. */
+    private static final ThreadLocal<ProcessReaper.Tracked> PROCESSES = new ThreadLocal<>();
+    /** Browser profile used for the next driver created on this thread. */
+    private static final ThreadLocal<BrowserProfile> PROFILE =
+            ThreadLocal.withInitial(() -> BrowserProfile.fromName(ConfigReader.getDefaultBrowserProfile()));
+    /** Page load strategy the current driver session was created with (the least waiting one any navigation needs). */
+    private static final ThreadLocal<PageLoadStrategy> SESSION_LOAD_STRATEGY = new ThreadLocal<>();
+    /** Load strategy plain navigations of the current driver are topped up to ({@code page.load.strategy}). */
+    private static final ThreadLocal<PageLoadStrategy> DEFAULT_LOAD_STRATEGY = new ThreadLocal<>();
+    /** Set while {@link #navigate} runs so the top-up listener leaves its navigation alone. */
+    private static final ThreadLocal<Boolean> SCOPED_NAVIGATION = new ThreadLocal<>();
+    /** Whether the current driver is a grid session holding a {@link RemoteSessionFactory} slot. */
+    private static final ThreadLocal<Boolean> REMOTE_SESSION = new ThreadLocal<>();
+
+    /**
+     * Marks a document loaded by {@link #navigate} with less than the default strategy; readiness waits accept an
+     * interactive state only on this document, not on documents reached later by clicks or history navigation.
+     */
+    private static final String MARK_RELAXED_LOAD_JS = "window.__relaxedLoad = true;";
+    /** Script expression that is true on a document marked by {@link #MARK_RELAXED_LOAD_JS}. */
+    public static final String RELAXED_LOAD_JS = "window.__relaxedLoad === true";
+
+    static {
+        configureHttpTransport();
+    }
 
     private DriverManager() {
         // Utility class
@@ -39,6 +86,20 @@ public final class DriverManager {
         }
     }
 
+    /**
+     * Select the browser profile for the next driver created on this thread (usually from scenario tags).
+     */
+    public static void useProfile(BrowserProfile profile) {
+        PROFILE.set(profile);
+    }
+
+    /**
+     * Profile of the current thread's driver.
+     */
+    public static BrowserProfile getProfile() {
+        return PROFILE.get();
+    }
+
     /**
      * Obtain the current thread's WebDriver, creating it if necessary.
      *
@@ -57,34 +118,136 @@ public final class DriverManager {
      */
     private static WebDriver createDriver(String browserName) {
         String browser = browserName == null ? "chrome" : browserName.toLowerCase();
+        PageLoadStrategy defaultStrategy = defaultLoadStrategy(PROFILE.get());
+        DEFAULT_LOAD_STRATEGY.set(defaultStrategy);
+        SESSION_LOAD_STRATEGY.set(sessionLoadStrategy(defaultStrategy));
+        if (ConfigReader.isGridEnabled()) {
+            return configureOrDiscard(createRemoteDriver(browser));
+        }
         switch (browser) {
             case "firefox":
-                return configureDriver(createFirefoxDriver());
+                return configureOrDiscard(createFirefoxDriver());
             case "edge":
-                return configureDriver(createEdgeDriver());
+                return configureOrDiscard(createEdgeDriver());
             case "chrome":
             default:
                 if (!"chrome".equals(browser)) {
                     logger.warn("Unsupported browser '{}', defaulting to Chrome", browserName);
                 }
-                return configureDriver(createChromeDriver());
+                if (ConfigReader.isBrowserMultiplexEnabled()) {
+                    WebDriver multiplexed = createMultiplexedChromeDriver();
+                    if (multiplexed != null) {
+                        return configureOrDiscard(multiplexed);
+                    }
+                }
+                return configureOrDiscard(createChromeDriver());
+        }
+    }
+
+    /**
+     * Configure a freshly created session; if that fails the session is closed (and its grid slot or shared
+     * browser context released) before the error propagates, since no driver is registered for quitDriver yet.
+     */
+    private static WebDriver configureOrDiscard(WebDriver driver) {
+        try {
+            return configureDriver(driver);
+        } catch (RuntimeException e) {
+            logger.error("Configuring the new WebDriver session failed, closing it: {}", e.getMessage());
+            discard(driver);
+            throw e;
         }
     }
 
     private static WebDriver configureDriver(WebDriver driver) {
+        BrowserProfile profile = PROFILE.get();
+        if (REMOTE_SESSION.get() != null && !(driver instanceof HasCdp)
+                && (profile.isFast() || EventWaits.isBackendEnabled())) {
+            logger.warn("Grid session has no CDP access: fast profile motion CSS is not applied and event wait "
+                    + "instrumentation starts with the first wait instead of the document");
+        }
+        if (profile.isFast() && driver instanceof HasCdp) {
+            ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                    Map.of("source", BrowserProfile.DISABLE_MOTION_JS));
+        }
+        if (EventWaits.isBackendEnabled() && driver instanceof HasCdp) {
+            // Network tracking must start with the document so requests issued before the first wait are counted
+            ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                    Map.of("source", EventWaits.INSTRUMENT_JS));
+        }
+        ProcessHandle serviceProcess = CREATED_SERVICE_PROCESS.get();
+        CREATED_SERVICE_PROCESS.remove();
+        PROCESSES.set(ProcessReaper.track(serviceProcess,
+                ConfigReader.getBrowserType() + "@" + Thread.currentThread().getName()));
+        DriverHeartbeat heartbeat = new DriverHeartbeat(serviceProcess);
+        HEARTBEAT.set(heartbeat);
+        LoadStrategyTopUp topUp = new LoadStrategyTopUp(driver);
+        if (ConfigReader.isCommandMetricsEnabled()) {
+            driver = new EventFiringDecorator<>(new WebDriverListener[]{heartbeat, topUp, new CommandTimingListener()}).decorate(driver);
+            logger.debug("WebDriver command timing enabled");
+        } else {
+            driver = new EventFiringDecorator<>(new WebDriverListener[]{heartbeat, topUp}).decorate(driver);
+        }
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(ConfigReader.getImplicitWait()));
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(ConfigReader.getPageLoadTimeout()));
         driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(ConfigReader.getScriptTimeout()));
 
-        if (!ConfigReader.isHeadless() && ConfigReader.isWindowMaximize()) {
+        if (!ConfigReader.isHeadless() && ConfigReader.isWindowMaximize() && !profile.isFast() && CONTEXT_LEASE.get() == null) {
             driver.manage().window().maximize();
             logger.debug("Browser window maximised");
         }
         return driver;
     }
 
+    /**
+     * Open a session on the configured grid with the same options a local browser would get.
+     */
+    private static WebDriver createRemoteDriver(String browser) {
+        BrowserProfile profile = PROFILE.get();
+        MutableCapabilities options;
+        switch (browser) {
+            case "firefox":
+                options = firefoxOptions(profile);
+                break;
+            case "edge":
+                options = edgeOptions(profile);
+                break;
+            default:
+                options = chromeOptions(profile);
+                break;
+        }
+        WebDriver driver = RemoteSessionFactory.create(options, Thread.currentThread().getName() + " (" + profile + ")");
+        REMOTE_SESSION.set(Boolean.TRUE);
+        return driver;
+    }
+
     private static WebDriver createChromeDriver() {
         WebDriverManager.chromedriver().setup();
+        ChromeOptions options = chromeOptions(PROFILE.get());
+        ChromeDriverService service = ChromeDriverService.createDefaultService();
+        ChromeDriver driver = new ChromeDriver(service, options, commandClientConfig());
+        CREATED_SERVICE_PROCESS.set(ProcessReaper.findServiceProcess(service).orElse(null));
+        return driver;
+    }
+
+    /**
+     * Lease an isolated browser context for this scenario on a shared Chrome process.
+     * Returns null when no context can be opened (e.g. CDP Target domain unavailable) so a dedicated browser is used.
+     */
+    private static WebDriver createMultiplexedChromeDriver() {
+        try {
+            WebDriverManager.chromedriver().setup();
+            BrowserProfile profile = PROFILE.get();
+            BrowserHost.ContextLease lease = BrowserHost.acquire(profile, chromeOptions(profile),
+                    ConfigReader.getBrowserContextsPerHost());
+            CONTEXT_LEASE.set(lease);
+            return lease.getDriver();
+        } catch (RuntimeException e) {
+            logger.warn("Browser context multiplexing failed, starting a dedicated browser: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static ChromeOptions chromeOptions(BrowserProfile profile) {
         ChromeOptions options = new ChromeOptions();
 
         options.addArguments(
@@ -102,16 +265,75 @@ public final class DriverManager {
                 "--disable-popup-blocking"
         );
 
+        options.setPageLoadStrategy(SESSION_LOAD_STRATEGY.get());
         if (ConfigReader.isHeadless()) {
-            options.addArguments("--headless=new", "--disable-logging", "--log-level=3", "--window-size=1920,1080");
+            options.addArguments("--headless=new", "--disable-logging", "--log-level=3", windowSize(profile));
             logger.info("Chrome will run in headless mode");
         }
+        if (profile.isFast()) {
+            applyFastProfile(options);
+        }
+
+        return options;
+    }
+
+    /**
+     * Fast functional profile for Chromium browsers: small viewport, no images, no smooth scrolling or
+     * motion and fewer renderer processes (eager loads come from {@link #sessionLoadStrategy}). Animations are
+     * also disabled per document through {@link BrowserProfile#DISABLE_MOTION_JS} once the driver is up.
+     */
+    private static void applyFastProfile(ChromiumOptions<?> options) {
+        options.addArguments(
+                windowSize(BrowserProfile.FAST_FUNCTIONAL),
+                "--blink-settings=imagesEnabled=false",
+                "--disable-smooth-scrolling",
+                "--force-prefers-reduced-motion",
+                "--renderer-process-limit=" + ConfigReader.getFastRendererProcessLimit()
+        );
+        options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+        logger.info("Using fast functional browser profile");
+    }
+
+    /**
+     * Default navigation strategy: {@code page.load.strategy}, lowered to eager for the fast profile.
+     */
+    private static PageLoadStrategy defaultLoadStrategy(BrowserProfile profile) {
+        PageLoadStrategy configured = parseLoadStrategy(ConfigReader.getPageLoadStrategy());
+        return profile.isFast() && configured == PageLoadStrategy.NORMAL ? PageLoadStrategy.EAGER : configured;
+    }
+
+    /**
+     * Session strategy: the least waiting one any navigation asks for. Page objects request eager navigations, and
+     * a session can only be topped up, never made to wait less (chromedriver blocks every command on a pending
+     * navigation under the normal strategy), so sessions are created with at most eager.
+     */
+    private static PageLoadStrategy sessionLoadStrategy(PageLoadStrategy defaultStrategy) {
+        return loadRank(defaultStrategy) > loadRank(PageLoadStrategy.EAGER) ? PageLoadStrategy.EAGER : defaultStrategy;
+    }
+
+    private static PageLoadStrategy parseLoadStrategy(String value) {
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(value == null ? null : value.trim().toLowerCase());
+        if (strategy == null) {
+            logger.warn("Unknown page load strategy '{}', using normal", value);
+            return PageLoadStrategy.NORMAL;
+        }
+        return strategy;
+    }
 
-        return new ChromeDriver(options);
+    private static String windowSize(BrowserProfile profile) {
+        return "--window-size=" + profile.getWindowWidth() + "," + profile.getWindowHeight();
     }
 
     private static WebDriver createFirefoxDriver() {
         WebDriverManager.firefoxdriver().setup();
+        FirefoxOptions options = firefoxOptions(PROFILE.get());
+        GeckoDriverService service = GeckoDriverService.createDefaultService();
+        FirefoxDriver driver = new FirefoxDriver(service, options, commandClientConfig());
+        CREATED_SERVICE_PROCESS.set(ProcessReaper.findServiceProcess(service).orElse(null));
+        return driver;
+    }
+
+    private static FirefoxOptions firefoxOptions(BrowserProfile profile) {
         FirefoxOptions options = new FirefoxOptions();
 
         options.addArguments("--no-sandbox", "--disable-dev-shm-usage");
@@ -126,23 +348,156 @@ public final class DriverManager {
             options.addArguments("--headless");
             logger.info("Firefox will run in headless mode");
         }
-
-        return new FirefoxDriver(options);
+        options.setPageLoadStrategy(SESSION_LOAD_STRATEGY.get());
+        if (profile.isFast()) {
+            options.addArguments("--width=" + profile.getWindowWidth(), "--height=" + profile.getWindowHeight());
+            options.addPreference("permissions.default.image", 2);
+            options.addPreference("general.smoothScroll", false);
+            options.addPreference("ui.prefersReducedMotion", 1);
+            logger.info("Using fast functional browser profile");
+        }
+        return options;
     }
 
     private static WebDriver createEdgeDriver() {
         WebDriverManager.edgedriver().setup();
+        EdgeOptions options = edgeOptions(PROFILE.get());
+        EdgeDriverService service = EdgeDriverService.createDefaultService();
+        EdgeDriver driver = new EdgeDriver(service, options, commandClientConfig());
+        CREATED_SERVICE_PROCESS.set(ProcessReaper.findServiceProcess(service).orElse(null));
+        return driver;
+    }
+
+    private static EdgeOptions edgeOptions(BrowserProfile profile) {
         EdgeOptions options = new EdgeOptions();
 
         options.addArguments("--no-sandbox", "--disable-dev-shm-usage", "--disable-extensions", "--disable-gpu");
         options.addArguments("--disable-notifications", "--disable-popup-blocking");
 
+        options.setPageLoadStrategy(SESSION_LOAD_STRATEGY.get());
         if (ConfigReader.isHeadless()) {
-            options.addArguments("--headless", "--window-size=1920,1080");
+            options.addArguments("--headless", windowSize(profile));
             logger.info("Edge will run in headless mode");
         }
+        if (profile.isFast()) {
+            applyFastProfile(options);
+        }
+        return options;
+    }
+
+    /**
+     * Route every session's command traffic through {@link SharedHttpClientFactory} and tune the JDK connection
+     * pool it uses. Must run before the first HTTP client is built, since the JDK reads its pool settings once.
+     * Explicit -D settings win.
+     */
+    private static void configureHttpTransport() {
+        if (!ConfigReader.isSharedHttpClientEnabled()) {
+            return;
+        }
+        System.setProperty("webdriver.http.factory", SharedHttpClientFactory.NAME);
+        if (System.getProperty("jdk.httpclient.keepalive.timeout") == null) {
+            System.setProperty("jdk.httpclient.keepalive.timeout", String.valueOf(ConfigReader.getHttpKeepAliveSeconds()));
+        }
+        if (System.getProperty("jdk.httpclient.connectionPoolSize") == null) {
+            int poolSize = ConfigReader.getHttpConnectionPoolSize();
+            if (poolSize <= 0) {
+                // One idle connection per concurrent session plus shared browser hosts
+                poolSize = ConcurrencyController.getInstance().getMaxConcurrency() * 2;
+            }
+            System.setProperty("jdk.httpclient.connectionPoolSize", String.valueOf(poolSize));
+        }
+        logger.debug("Shared WebDriver HTTP client enabled (keep-alive {} s, pool {})",
+                System.getProperty("jdk.httpclient.keepalive.timeout"), System.getProperty("jdk.httpclient.connectionPoolSize"));
+    }
+
+    /**
+     * Client settings for local driver sessions. The read timeout must outlast the longest command a driver may
+     * legitimately block on (page load, async script, implicit element wait), otherwise a slow but healthy command
+     * is cut off on the client side; the default three minutes would instead hide a hung driver for that long.
+     */
+    static ClientConfig commandClientConfig() {
+        int longestCommand = Math.max(ConfigReader.getPageLoadTimeout(),
+                Math.max(ConfigReader.getScriptTimeout(), ConfigReader.getImplicitWait()));
+        return ClientConfig.defaultConfig()
+                .connectionTimeout(Duration.ofMillis(ConfigReader.getHttpConnectTimeoutMillis()))
+                .readTimeout(Duration.ofSeconds(longestCommand + ConfigReader.getHttpReadTimeoutMarginSeconds()));
+    }
+
+    /**
+     * Default load strategy of this thread's navigations ({@code page.load.strategy}, eager for the fast profile).
+     * Readiness waits honour it; documents opened by {@link #navigate} with a lower strategy are marked and
+     * accepted as interactive on their own (see {@link #RELAXED_LOAD_JS}).
+     */
+    public static PageLoadStrategy getPageLoadStrategy() {
+        PageLoadStrategy strategy = DEFAULT_LOAD_STRATEGY.get();
+        return strategy != null ? strategy : parseLoadStrategy(ConfigReader.getPageLoadStrategy());
+    }
+
+    /**
+     * Navigate with a per-navigation load strategy. Sessions are created with the least waiting strategy
+     * (see {@link #sessionLoadStrategy}), so the navigation returns as early as the session allows and is topped
+     * up with a readyState wait when the requested strategy waits more. A document opened with less than the
+     * default strategy is marked so readiness waits accept it as interactive; other documents keep the default.
+     *
+     * @param driver   driver to navigate
+     * @param url      target URL
+     * @param strategy how far the new document must be loaded before returning
+     * @throws org.openqa.selenium.TimeoutException when the document is not ready within the page load timeout
+     */
+    public static void navigate(WebDriver driver, String url, PageLoadStrategy strategy) {
+        PageLoadStrategy session = SESSION_LOAD_STRATEGY.get() != null ? SESSION_LOAD_STRATEGY.get() : PageLoadStrategy.NORMAL;
+        SCOPED_NAVIGATION.set(Boolean.TRUE);
+        try {
+            driver.get(url);
+            if (loadRank(strategy) > loadRank(session)) {
+                awaitDocument(driver, strategy);
+            }
+            if (loadRank(strategy) < loadRank(getPageLoadStrategy())) {
+                ((JavascriptExecutor) driver).executeScript(MARK_RELAXED_LOAD_JS);
+            }
+        } finally {
+            SCOPED_NAVIGATION.remove();
+        }
+    }
+
+    private static void awaitDocument(WebDriver driver, PageLoadStrategy strategy) {
+        if (strategy == PageLoadStrategy.NONE) {
+            return;
+        }
+        new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getPageLoadTimeout()), Duration.ofMillis(50))
+                .ignoring(WebDriverException.class)
+                .until(d -> {
+                    Object state = ((JavascriptExecutor) d).executeScript("return document.readyState");
+                    return "complete".equals(state) || (strategy == PageLoadStrategy.EAGER && "interactive".equals(state));
+                });
+    }
+
+    private static int loadRank(PageLoadStrategy strategy) {
+        switch (strategy) {
+            case NONE:
+                return 0;
+            case EAGER:
+                return 1;
+            default:
+                return 2;
+        }
+    }
+
+    /**
+     * DevTools browserContextId of the current scenario, or null when it runs in a dedicated browser.
+     */
+    public static String getContextHandle() {
+        BrowserHost.ContextLease lease = CONTEXT_LEASE.get();
+        return lease == null ? null : lease.getBrowserContextId();
+    }
 
-        return new EdgeDriver(options);
+    /**
+     * Quit the shared browsers started in multiplex mode and close the shared command HTTP clients.
+     * Called once at the end of the suite.
+     */
+    public static void shutdownSharedBrowsers() {
+        BrowserHost.shutdownAll();
+        SharedHttpClientFactory.closeAll();
     }
 
     /**
@@ -154,10 +509,28 @@ public final class DriverManager {
 
     /**
      * Determine if current driver session responds to commands.
+     * A dead driver service process fails immediately; a session whose commands succeeded within
+     * {@code driver.health.silence.ms} and has not failed since is healthy without a probe roundtrip.
      */
     public static boolean isBrowserHealthy() {
         WebDriver driver = DRIVER.get();
-        return driver != null && isDriverHealthy(driver);
+        if (driver == null) {
+            return false;
+        }
+        DriverHeartbeat heartbeat = HEARTBEAT.get();
+        if (heartbeat != null) {
+            if (!heartbeat.isDriverProcessAlive()) {
+                logger.warn("Driver service process {} has exited", heartbeat.getDriverProcess().pid());
+                return false;
+            }
+            if (!heartbeat.needsProbe(ConfigReader.getHealthSilenceMillis())) {
+                return true;
+            }
+            if (heartbeat.hasFailedSinceLastSuccess()) {
+                logger.debug("Probing session after failure: {}", heartbeat.getLastFatalError());
+            }
+        }
+        return isDriverHealthy(driver);
     }
 
     private static boolean isDriverHealthy(WebDriver driver) {
@@ -172,20 +545,49 @@ public final class DriverManager {
 
     /**
      * Quit the active driver and clean up thread local storage.
+     * Driver and browser processes still running after the quit (e.g. when it failed) are killed.
      */
     public static void quitDriver() {
         WebDriver driver = DRIVER.get();
         if (driver != null) {
             try {
-                driver.quit();
-            } catch (Exception e) {
-                logger.warn("Error while quitting WebDriver: {}", e.getMessage());
+                discard(driver);
             } finally {
                 DRIVER.remove();
             }
         }
     }
 
+    /**
+     * Close a session and release everything held for it on this thread: shared browser context, grid slot,
+     * tracked processes and per-session state.
+     */
+    private static void discard(WebDriver driver) {
+        BrowserHost.ContextLease lease = CONTEXT_LEASE.get();
+        try {
+            if (lease != null) {
+                // Only this scenario's context is closed; the shared browser stays up
+                lease.release();
+            } else {
+                driver.quit();
+            }
+        } catch (Exception e) {
+            logger.warn("Error while quitting WebDriver: {}", e.getMessage());
+        } finally {
+            CONTEXT_LEASE.remove();
+            HEARTBEAT.remove();
+            CREATED_SERVICE_PROCESS.remove();
+            SESSION_LOAD_STRATEGY.remove();
+            DEFAULT_LOAD_STRATEGY.remove();
+            if (REMOTE_SESSION.get() != null) {
+                REMOTE_SESSION.remove();
+                RemoteSessionFactory.release();
+            }
+            ProcessReaper.release(PROCESSES.get());
+            PROCESSES.remove();
+        }
+    }
+
     /**
      * Attempt to recover the browser session by restarting the driver.
      */
@@ -218,4 +620,39 @@ public final class DriverManager {
         quitDriver();
         initializeDriver();
     }
+
+    /**
+     * Tops plain navigations ({@code get}, {@code navigate().to/back/forward/refresh}) up from the session strategy
+     * to the default one, so callers that do not use {@link #navigate} still see {@code page.load.strategy}.
+     */
+    private static final class LoadStrategyTopUp implements WebDriverListener {
+        private final WebDriver driver;
+
+        private LoadStrategyTopUp(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        @Override
+        public void afterGet(WebDriver target, String url) {
+            topUp();
+        }
+
+        @Override
+        public void afterAnyNavigationCall(WebDriver.Navigation navigation, Method method, Object[] args, Object result) {
+            topUp();
+        }
+
+        private void topUp() {
+            PageLoadStrategy session = SESSION_LOAD_STRATEGY.get();
+            PageLoadStrategy target = getPageLoadStrategy();
+            if (SCOPED_NAVIGATION.get() != null || session == null || loadRank(target) <= loadRank(session)) {
+                return;
+            }
+            try {
+                awaitDocument(driver, target);
+            } catch (TimeoutException e) {
+                logger.warn("Page did not reach the {} load state within {} seconds", target, ConfigReader.getPageLoadTimeout());
+            }
+        }
+    }
 }
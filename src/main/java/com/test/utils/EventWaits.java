@@ -0,0 +1,335 @@
+package com.test.utils;
+
+import com.test.config.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Olay tabanlı bekleme arka ucu.
+ * Koşul sayfanın içinde bir {@code MutationObserver}, {@code readystatechange}/{@code load} olayları ve ağ
+ * sayacı ile izlenir; tek bir {@code executeAsyncScript} çağrısı koşul gerçekleştiği anda döner. Yoklamadaki gibi
+ * her denemede bir komut gidip gelmez, bir yoklama aralığı kadar gecikme de olmaz.
+ * <ul>
+ *   <li>Ağ boşta sinyali ve konsol hataları için sayfaya {@link #INSTRUMENT_JS} eklenir; Chromium'da CDP ile her
+ *       belgenin başında (bkz. {@code DriverManager}), diğer tarayıcılarda ilk beklemede.</li>
+ *   <li>Sinyal yalnızca bir uyandırma ipucudur: çağıran taraf asıl Selenium koşulunu önce ve her uyanışta
+ *       doğrular, sinyali de kısa parçalarla bekler (bkz. {@link WaitUtils}, {@link AdaptiveWait}).</li>
+ *   <li>Desteklenmeyen sürücü/tarayıcıda ya da {@code wait.backend=polling} ile {@code false} döner ve çağıran
+ *       yoklamaya geçer.</li>
+ * </ul>
+ * WebDriver BiDi/CDP abonelikleri yerine sayfa içi gözlemci kullanılır: sürücü sürümüne bağlı devtools modülü
+ * gerektirmez ve Firefox/Edge'de de aynı şekilde çalışır.
+ */
+public final class EventWaits {
+
+    private static final Logger logger = LogManager.getLogger(EventWaits.class);
+
+    /** Sayfa içi zamanlayıcının sürücü betik zaman aşımından önce dönmesi için bırakılan pay. */
+    private static final long SCRIPT_TIMEOUT_HEADROOM_MS = 1_000;
+    /** Bekleme sırasında yeni belgeye geçilirse (navigasyon) yeniden abone olma sınırı. */
+    private static final int MAX_DOCUMENT_SWITCHES = 5;
+    private static final int MAX_RECORDED_ERRORS = 50;
+
+    /**
+     * Bu thread'de olay beklemesini desteklemediği görülen oturum. Sürücüler thread'e bağlı olduğundan tek referans
+     * yeter; kimlikle karşılaştırılır, dekore sürücüde hashCode/equals komut sayılmasın diye.
+     */
+    private static final ThreadLocal<WebDriver> UNSUPPORTED = new ThreadLocal<>();
+
+    /**
+     * Belgeye bir kez kurulan izleme: uçuştaki fetch/XHR sayısı, son ağ etkinliği ve konsol/sayfa hataları.
+     */
+    public static final String INSTRUMENT_JS =
+            "(function () {" +
+            "  if (window.__waitEvents) { return; }" +
+            "  var state = window.__waitEvents = { inflight: 0, lastActivity: Date.now(), errors: [] };" +
+            "  function begin() { state.inflight++; state.lastActivity = Date.now(); }" +
+            "  function end() { state.inflight = Math.max(0, state.inflight - 1); state.lastActivity = Date.now(); }" +
+            "  function record(message) {" +
+            "    if (state.errors.length < " + MAX_RECORDED_ERRORS + ") { state.errors.push(String(message)); }" +
+            "  }" +
+            "  if (window.fetch) {" +
+            "    var originalFetch = window.fetch;" +
+            "    window.fetch = function () {" +
+            "      begin();" +
+            "      return originalFetch.apply(this, arguments).then(" +
+            "        function (response) { end(); return response; }," +
+            "        function (error) { end(); throw error; });" +
+            "    };" +
+            "  }" +
+            "  if (window.XMLHttpRequest) {" +
+            "    var originalSend = XMLHttpRequest.prototype.send;" +
+            "    XMLHttpRequest.prototype.send = function () {" +
+            "      begin();" +
+            "      this.addEventListener('loadend', end);" +
+            "      return originalSend.apply(this, arguments);" +
+            "    };" +
+            "  }" +
+            "  window.addEventListener('error', function (e) {" +
+            "    record(e.message || ('Failed to load ' + (e.target && (e.target.src || e.target.href))));" +
+            "  }, true);" +
+            "  window.addEventListener('unhandledrejection', function (e) { record('Unhandled rejection: ' + e.reason); });" +
+            "  var originalError = console.error;" +
+            "  console.error = function () {" +
+            "    record(Array.prototype.join.call(arguments, ' '));" +
+            "    return originalError.apply(console, arguments);" +
+            "  };" +
+            "})();";
+
+    /**
+     * Argümanlar: sinyal, bulucu türü, bulucu değeri (ya da öğe), metin, zaman aşımı (ms), ağ boşta süresi (ms).
+     * Sonuç: {@code true} sinyal geldi, {@code false} süre doldu, metin ise desteklenmiyor/hata.
+     */
+    private static final String AWAIT_JS = INSTRUMENT_JS +
+            "var signal = arguments[0], using = arguments[1], value = arguments[2], text = arguments[3]," +
+            "    timeout = arguments[4], idle = arguments[5], done = arguments[arguments.length - 1];" +
+            "if (typeof MutationObserver === 'undefined') { done('unsupported'); return; }" +
+            "function find() {" +
+            "  if (using === 'element') { return value; }" +
+            "  if (using === 'xpath') {" +
+            "    return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "  }" +
+            "  return document.querySelector(value);" +
+            "}" +
+            "function shown(el) {" +
+            "  if (!el || !el.isConnected) { return false; }" +
+            "  var style = window.getComputedStyle(el);" +
+            "  if (style.display === 'none' || style.visibility === 'hidden' || style.opacity === '0') { return false; }" +
+            "  var rect = el.getBoundingClientRect();" +
+            "  return rect.width > 0 && rect.height > 0;" +
+            "}" +
+            "function check() {" +
+            "  var el;" +
+            "  switch (signal) {" +
+            "    case 'present': return !!find();" +
+            "    case 'visible': return shown(find());" +
+            "    case 'clickable': el = find(); return shown(el) && !el.disabled;" +
+            "    case 'hidden': return !shown(find());" +
+            "    case 'text': el = find(); return !!el && (el.innerText || el.textContent || '').indexOf(text) >= 0;" +
+            "    case 'ready': return document.readyState === 'complete' || (document.readyState === 'interactive'" +
+            "        && (text === 'interactive' || " + DriverManager.RELAXED_LOAD_JS + "));" +
+            "    case 'network-idle': return document.readyState !== 'loading' && window.__waitEvents.inflight === 0" +
+            "        && Date.now() - window.__waitEvents.lastActivity >= idle;" +
+            "  }" +
+            "  return false;" +
+            "}" +
+            "var finished = false, observer = null, tick = null, expiry = null;" +
+            "function finish(result) {" +
+            "  if (finished) { return; }" +
+            "  finished = true;" +
+            "  if (observer) { observer.disconnect(); }" +
+            "  clearInterval(tick);" +
+            "  clearTimeout(expiry);" +
+            "  document.removeEventListener('readystatechange', evaluate);" +
+            "  window.removeEventListener('load', evaluate);" +
+            "  done(result);" +
+            "}" +
+            "function evaluate() {" +
+            "  try { if (check()) { finish(true); } } catch (e) { finish('error: ' + e.message); }" +
+            "}" +
+            "evaluate();" +
+            "if (!finished) {" +
+            "  observer = new MutationObserver(evaluate);" +
+            "  observer.observe(document.documentElement || document," +
+            "      { childList: true, subtree: true, attributes: true, characterData: true });" +
+            "  document.addEventListener('readystatechange', evaluate);" +
+            "  window.addEventListener('load', evaluate);" +
+            // Style sheet and layout changes raise no mutation; the network idle window also needs a clock
+            "  tick = setInterval(evaluate, 100);" +
+            "  expiry = setTimeout(function () { finish(false); }, timeout);" +
+            "}";
+
+    private static final String DRAIN_ERRORS_JS =
+            "var state = window.__waitEvents;" +
+            "if (!state) { return []; }" +
+            "var errors = state.errors; state.errors = []; return errors;";
+
+    private EventWaits() {
+        // Utility class
+    }
+
+    /**
+     * Beklenen sinyal; adları sayfa içi betikteki adlardır.
+     */
+    public enum Signal {
+        PRESENT("present"),
+        VISIBLE("visible"),
+        CLICKABLE("clickable"),
+        HIDDEN("hidden"),
+        TEXT("text"),
+        /** Metin {@code "interactive"} ise etkileşimli belge de yeterli sayılır. */
+        READY("ready"),
+        NETWORK_IDLE("network-idle");
+
+        private final String id;
+
+        Signal(String id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * {@code wait.backend=event} mi.
+     */
+    public static boolean isBackendEnabled() {
+        return "event".equals(ConfigReader.getWaitBackend().trim().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Bu oturumda olay beklemesi kullanılabilir mi.
+     */
+    public static boolean isEnabled(WebDriver driver) {
+        return isBackendEnabled() && driver instanceof JavascriptExecutor && UNSUPPORTED.get() != driver;
+    }
+
+    /**
+     * Bulucuyla seçilen öğe için sinyali bekler.
+     * @return sinyal geldiyse true; süre dolduysa ya da olay beklemesi kullanılamıyorsa false (çağıran yoklar)
+     */
+    public static boolean await(WebDriver driver, Signal signal, By locator, String text, Duration timeout) {
+        if (!isEnabled(driver)) {
+            return false;
+        }
+        String[] remote = remoteLocator(locator);
+        if (remote == null) {
+            return false;
+        }
+        return run(driver, signal, remote[0], remote[1], text, timeout);
+    }
+
+    /**
+     * Var olan bir öğe (PageFactory öğesi dahil) için sinyali bekler.
+     */
+    public static boolean await(WebDriver driver, Signal signal, WebElement element, Duration timeout) {
+        if (!isEnabled(driver)) {
+            return false;
+        }
+        return run(driver, signal, "element", element, null, timeout);
+    }
+
+    /**
+     * Öğesiz sinyalleri ({@link Signal#READY}, {@link Signal#NETWORK_IDLE}) bekler.
+     */
+    public static boolean await(WebDriver driver, Signal signal, String text, Duration timeout) {
+        if (!isEnabled(driver)) {
+            return false;
+        }
+        return run(driver, signal, null, null, text, timeout);
+    }
+
+    /**
+     * Sayfada şimdiye kadar yakalanan konsol/sayfa hatalarını döner ve listeyi boşaltır.
+     */
+    @SuppressWarnings("unchecked")
+    public static List<String> drainConsoleErrors(WebDriver driver) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return Collections.emptyList();
+        }
+        try {
+            Object errors = ((JavascriptExecutor) driver).executeScript(DRAIN_ERRORS_JS);
+            return errors instanceof List ? new ArrayList<>((List<String>) errors) : Collections.emptyList();
+        } catch (WebDriverException e) {
+            logger.debug("Could not read page errors: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private static boolean run(WebDriver driver, Signal signal, String using, Object value, String text, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long chunkMs = Math.max(SCRIPT_TIMEOUT_HEADROOM_MS,
+                ConfigReader.getScriptTimeout() * 1000L - SCRIPT_TIMEOUT_HEADROOM_MS);
+        int documentSwitches = 0;
+        while (true) {
+            long remainingMs = (deadline - System.nanoTime()) / 1_000_000L;
+            if (remainingMs <= 0) {
+                return false;
+            }
+            Object result;
+            try {
+                result = ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_JS, signal.id, using, value,
+                        text == null ? "" : text, Math.min(remainingMs, chunkMs), ConfigReader.getNetworkIdleMillis());
+            } catch (UnsupportedCommandException e) {
+                markUnsupported(driver, e.getMessage());
+                return false;
+            } catch (StaleElementReferenceException | NoSuchElementException | ScriptTimeoutException e) {
+                return false;
+            } catch (JavascriptException e) {
+                if (!isDocumentSwitch(e) || ++documentSwitches > MAX_DOCUMENT_SWITCHES) {
+                    logger.debug("Event wait for {} failed, falling back to polling: {}", signal, firstLine(e.getMessage()));
+                    return false;
+                }
+                continue;
+            }
+            if (Boolean.TRUE.equals(result)) {
+                return true;
+            }
+            if ("unsupported".equals(result)) {
+                markUnsupported(driver, "MutationObserver not available");
+                return false;
+            }
+            if (result instanceof String) {
+                logger.debug("Event wait for {} failed in page, falling back to polling: {}", signal, result);
+                return false;
+            }
+            // Chunk expired; keep waiting while the caller's timeout lasts
+        }
+    }
+
+    /**
+     * Asenkron betik, sayfa değiştiği (navigasyon) için yarıda kesildi mi ("document unloaded").
+     * Zaman aşımı, kapanan pencere ya da kopan oturum bu kapsamda değildir.
+     */
+    public static boolean isDocumentSwitch(WebDriverException e) {
+        if (!(e instanceof JavascriptException)) {
+            return false;
+        }
+        String message = e.getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains("unloaded");
+    }
+
+    /**
+     * CSS, XPath ve etiket bulucuları sayfada aynen çözülebilir; link metni gibi diğerleri için null (yoklanır).
+     */
+    private static String[] remoteLocator(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        String using = parameters.using();
+        if ("css selector".equals(using) || "xpath".equals(using) || "tag name".equals(using)) {
+            return new String[]{using, String.valueOf(parameters.value())};
+        }
+        return null;
+    }
+
+    private static void markUnsupported(WebDriver driver, String reason) {
+        if (UNSUPPORTED.get() != driver) {
+            UNSUPPORTED.set(driver);
+            logger.info("Event-driven waits unavailable for this session, using polling: {}", firstLine(reason));
+        }
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+}
@@ -0,0 +1,245 @@
+package com.test.utils;
+
+import com.test.config.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Performans ölçüm yardımcı sınıfı.
+ * WebDriver komutlarının ve iş mantığı operasyonlarının sürelerini paylaşılan, kilitsiz
+ * histogramlarda toplar ve suite sonunda p50/p90/p99/max değerlerini log ve CSV olarak yazar.
+ */
+public final class PerformanceMonitor {
+
+    private static final Logger logger = LogManager.getLogger(PerformanceMonitor.class);
+    private static final String COMMAND_REPORT_FILE = "webdriver-command-latency.csv";
+    private static final String OPERATION_REPORT_FILE = "operation-latency.csv";
+    private static final String WAIT_REPORT_FILE = "wait-time-to-condition.csv";
+
+    /** Komut histogramları: sayfa nesnesi -> komut -> histogram. */
+    private static final Map<String, Map<String, LatencyHistogram>> COMMAND_HISTOGRAMS = new ConcurrentHashMap<>();
+    /** Operasyon histogramları: kategori -> operasyon adı -> histogram. */
+    private static final Map<PerformanceCategory, Map<String, LatencyHistogram>> OPERATION_HISTOGRAMS = new ConcurrentHashMap<>();
+    /** Son pencereye ait tüm komut süreleri; {@link #swapCommandWindow()} ile okunup sıfırlanır. */
+    private static final AtomicReference<LatencyHistogram> COMMAND_WINDOW = new AtomicReference<>(new LatencyHistogram());
+    /** Bekleme istatistikleri: sayfa nesnesi -> koşul -> koşula kadar geçen süre ve zaman aşımı sayısı. */
+    private static final Map<String, Map<String, WaitStats>> WAIT_STATS = new ConcurrentHashMap<>();
+    /** Süresi sayfadaki olayı bekleyen komutlar; gecikme penceresine (eşzamanlılık sinyali) yazılmaz. */
+    private static final Set<String> WAIT_COMMANDS = Set.of("executeAsyncScript");
+
+    /**
+     * Operasyon kategorileri; raporlamada gruplama için kullanılır.
+     */
+    public enum PerformanceCategory {
+        NAVIGATION,
+        SEARCH,
+        BUSINESS_LOGIC,
+        CART,
+        WAIT
+    }
+
+    private PerformanceMonitor() {
+        // Utility class
+    }
+
+    /**
+     * Bir operasyonu çalıştırır ve süresini kategori histogramına kaydeder (hata olsa bile).
+     * @param operationName operasyon adı
+     * @param category operasyon kategorisi
+     * @param operation çalıştırılacak işlem
+     * @return işlemin sonucu
+     */
+    public static <T> T timeOperation(String operationName, PerformanceCategory category, Supplier<T> operation) {
+        long start = System.nanoTime();
+        try {
+            return operation.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            recordOperation(operationName, category, elapsed);
+            logger.debug("{} [{}] took {} ms", operationName, category, elapsed / 1_000_000);
+        }
+    }
+
+    /**
+     * Operasyon süresini kaydeder.
+     */
+    public static void recordOperation(String operationName, PerformanceCategory category, long elapsedNanos) {
+        OPERATION_HISTOGRAMS
+                .computeIfAbsent(category, c -> new ConcurrentHashMap<>())
+                .computeIfAbsent(operationName, n -> new LatencyHistogram())
+                .recordNanos(elapsedNanos);
+    }
+
+    /**
+     * WebDriver komut süresini, komutu çağıran sayfa nesnesi altında kaydeder.
+     * @param pageObject çağıran sayfa nesnesinin basit sınıf adı
+     * @param command komut adı (findElement, click, executeScript...)
+     * @param elapsedNanos süre (ns)
+     */
+    public static void recordCommand(String pageObject, String command, long elapsedNanos) {
+        COMMAND_HISTOGRAMS
+                .computeIfAbsent(pageObject, p -> new ConcurrentHashMap<>())
+                .computeIfAbsent(command, c -> new LatencyHistogram())
+                .recordNanos(elapsedNanos);
+        if (!WAIT_COMMANDS.contains(command)) {
+            COMMAND_WINDOW.get().recordNanos(elapsedNanos);
+        }
+    }
+
+    /**
+     * Bir beklemenin koşula ulaşma süresini kaydeder; zaman aşımları histogramı bozmasın diye ayrıca sayılır.
+     * @param pageObject beklemeyi yapan sayfa nesnesi
+     * @param condition koşulun açıklaması (bulucu dahil)
+     * @param elapsedNanos beklemenin süresi (ns)
+     * @param satisfied koşul süre içinde sağlandı mı
+     */
+    public static void recordWait(String pageObject, String condition, long elapsedNanos, boolean satisfied) {
+        WaitStats stats = WAIT_STATS
+                .computeIfAbsent(pageObject, p -> new ConcurrentHashMap<>())
+                .computeIfAbsent(condition, c -> new WaitStats());
+        if (satisfied) {
+            stats.timeToCondition.recordNanos(elapsedNanos);
+        } else {
+            stats.timeouts.increment();
+        }
+    }
+
+    /**
+     * Belirli bir sayfa/koşul için koşula ulaşma süresi histogramı; kayıt yoksa null.
+     */
+    public static LatencyHistogram getWaitHistogram(String pageObject, String condition) {
+        Map<String, WaitStats> conditions = WAIT_STATS.get(pageObject);
+        WaitStats stats = conditions == null ? null : conditions.get(condition);
+        return stats == null ? null : stats.timeToCondition;
+    }
+
+    /**
+     * Son pencerenin komut histogramını döner ve yeni bir pencere başlatır.
+     */
+    public static LatencyHistogram swapCommandWindow() {
+        return COMMAND_WINDOW.getAndSet(new LatencyHistogram());
+    }
+
+    /**
+     * Belirli bir sayfa/komut histogramını döner; kayıt yoksa null.
+     */
+    public static LatencyHistogram getCommandHistogram(String pageObject, String command) {
+        Map<String, LatencyHistogram> commands = COMMAND_HISTOGRAMS.get(pageObject);
+        return commands == null ? null : commands.get(command);
+    }
+
+    /**
+     * Tüm histogramları temizler.
+     */
+    public static void reset() {
+        COMMAND_HISTOGRAMS.clear();
+        OPERATION_HISTOGRAMS.clear();
+        WAIT_STATS.clear();
+    }
+
+    /**
+     * Toplanan tüm histogramları loglar ve rapor dizinine CSV olarak yazar.
+     * Suite sonunda bir kez çağrılması beklenir.
+     */
+    public static void dumpReport() {
+        List<String> commandRows = new ArrayList<>();
+        COMMAND_HISTOGRAMS.forEach((page, commands) ->
+                commands.forEach((command, histogram) -> commandRows.add(formatRow(page, command, histogram))));
+        List<String> operationRows = new ArrayList<>();
+        OPERATION_HISTOGRAMS.forEach((category, operations) ->
+                operations.forEach((name, histogram) -> operationRows.add(formatRow(category.name(), name, histogram))));
+
+        List<String> waitRows = new ArrayList<>();
+        WAIT_STATS.forEach((page, conditions) ->
+                conditions.forEach((condition, stats) -> waitRows.add(formatWaitRow(page, condition, stats))));
+
+        if (commandRows.isEmpty() && operationRows.isEmpty() && waitRows.isEmpty()) {
+            logger.info("No performance samples recorded");
+            return;
+        }
+        commandRows.sort(null);
+        operationRows.sort(null);
+        waitRows.sort(null);
+
+        String header = "group,name,count,p50_ms,p90_ms,p99_ms,max_ms";
+        if (!commandRows.isEmpty()) {
+            logger.info("WebDriver command latency (page object, command):\n{}\n{}", header, String.join("\n", commandRows));
+        }
+        if (!operationRows.isEmpty()) {
+            logger.info("Operation latency (category, operation):\n{}\n{}", header, String.join("\n", operationRows));
+        }
+
+        String waitHeader = "page,condition,count,timeouts,p50_ms,p90_ms,p99_ms,max_ms";
+        if (!waitRows.isEmpty()) {
+            logger.info("Wait time-to-condition (page object, condition):\n{}\n{}", waitHeader, String.join("\n", waitRows));
+        }
+
+        writeCsv(COMMAND_REPORT_FILE, header, commandRows);
+        writeCsv(OPERATION_REPORT_FILE, header, operationRows);
+        writeCsv(WAIT_REPORT_FILE, waitHeader, waitRows);
+    }
+
+    /**
+     * Koşul açıklamaları virgül içerebildiğinden (CSS seçici listeleri) tırnak içinde yazılır.
+     */
+    private static String formatWaitRow(String page, String condition, WaitStats stats) {
+        LatencyHistogram histogram = stats.timeToCondition;
+        return String.format(Locale.ROOT, "%s,\"%s\",%d,%d,%.3f,%.3f,%.3f,%.3f",
+                page, condition.replace("\"", "\"\""), histogram.getCount(), stats.timeouts.sum(),
+                toMillis(histogram.getValueAtPercentile(50)),
+                toMillis(histogram.getValueAtPercentile(90)),
+                toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getMaxMicros()));
+    }
+
+    private static String formatRow(String group, String name, LatencyHistogram histogram) {
+        return String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.3f,%.3f,%.3f",
+                group, name, histogram.getCount(),
+                toMillis(histogram.getValueAtPercentile(50)),
+                toMillis(histogram.getValueAtPercentile(90)),
+                toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getMaxMicros()));
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    private static void writeCsv(String fileName, String header, List<String> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            Path dir = Paths.get(ConfigReader.getReportDirectory());
+            Files.createDirectories(dir);
+            List<String> lines = new ArrayList<>(rows.size() + 1);
+            lines.add(header);
+            lines.addAll(rows);
+            Path file = dir.resolve(fileName);
+            Files.write(file, lines, StandardCharsets.UTF_8);
+            logger.info("Latency report written to {}", file.toAbsolutePath());
+        } catch (IOException e) {
+            logger.warn("Could not write latency report {}: {}", fileName, e.getMessage());
+        }
+    }
+
+    private static final class WaitStats {
+        private final LatencyHistogram timeToCondition = new LatencyHistogram();
+        private final LongAdder timeouts = new LongAdder();
+    }
+}
@@ -0,0 +1,413 @@
+package com.test.utils;
+
+import com.test.config.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Başlatılan sürücü servislerini (chromedriver, geckodriver...) ve altlarındaki tarayıcı süreçlerini izleyen,
+ * sahipsiz kalanları sonlandıran yardımcı sınıf.
+ * <ul>
+ *   <li>Sürücü kapatıldıktan sonra süre içinde kapanmayan süreç ağacı zorla sonlandırılır ({@code quit} hata verse bile).</li>
+ *   <li>Sahibi olan thread ölmüş kayıtlar (bayat oturum) örnekleme sırasında temizlenir.</li>
+ *   <li>JVM kapanırken kalan tüm ağaçlar kapanış kancası ile sonlandırılır.</li>
+ *   <li>PID defteri diske yazılır; çöken bir JVM'in bıraktığı süreçler sonraki çalıştırmada,
+ *       başlangıç zamanı eşleşiyorsa (PID yeniden kullanımına karşı) sonlandırılır.</li>
+ * </ul>
+ * Her oturum için süreç ağacının tepe RSS'i ({@code /proc}) ve toplam CPU süresi raporlanır.
+ */
+public final class ProcessReaper {
+
+    private static final Logger logger = LogManager.getLogger(ProcessReaper.class);
+    private static final String REPORT_FILE = "session-resources.csv";
+    private static final String LEDGER_SUFFIX = ".pids";
+
+    private static final ProcessHandle SELF = ProcessHandle.current();
+    private static final Map<Long, Tracked> TRACKED = new ConcurrentHashMap<>();
+    private static final List<String> REPORT_ROWS = Collections.synchronizedList(new ArrayList<>());
+    private static final LongAdder SESSION_PEAK_RSS_KB = new LongAdder();
+    private static final LongAdder SESSIONS_MEASURED = new LongAdder();
+
+    private static ScheduledExecutorService sampler;
+
+    static {
+        reapPreviousRuns();
+        Runtime.getRuntime().addShutdownHook(new Thread(ProcessReaper::reapAll, "process-reaper"));
+    }
+
+    private ProcessReaper() {
+        // Utility class
+    }
+
+    /**
+     * Başlatılmış bir sürücü servisinin sürecini, dinlediği port üzerinden bu JVM'in alt süreçleri arasında bulur.
+     * Selenium süreci dışarı açmadığı için tek yol budur.
+     */
+    public static Optional<ProcessHandle> findServiceProcess(DriverService service) {
+        try {
+            String port = String.valueOf(service.getUrl().getPort());
+            return SELF.children()
+                    .filter(p -> p.info().arguments()
+                            .map(args -> Stream.of(args).anyMatch(a -> a.equals(port) || a.endsWith("=" + port)))
+                            .orElse(false))
+                    .findFirst();
+        } catch (RuntimeException e) {
+            logger.debug("Driver service process not identified: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Bir oturumun süreç ağacını izlemeye alır; sahibi çağıran thread'dir, thread ölürse ağaç bayat sayılır.
+     * @param root sürücü servis süreci; null ise izleme yapılmaz
+     * @param label raporda görünecek oturum adı
+     * @return izleme kaydı ya da null
+     */
+    public static Tracked track(ProcessHandle root, String label) {
+        return register(root, label, Thread.currentThread());
+    }
+
+    /**
+     * Birden fazla thread'in kullandığı (paylaşılan tarayıcı gibi) bir süreç ağacını sahipsiz olarak izlemeye alır.
+     */
+    public static Tracked trackShared(ProcessHandle root, String label) {
+        return register(root, label, null);
+    }
+
+    private static Tracked register(ProcessHandle root, String label, Thread owner) {
+        if (root == null || !ConfigReader.isProcessReaperEnabled()) {
+            return null;
+        }
+        Tracked tracked = new Tracked(root, label, owner);
+        TRACKED.put(root.pid(), tracked);
+        tracked.sample();
+        startSampler();
+        writeLedger();
+        return tracked;
+    }
+
+    /**
+     * Sürücü kapatıldıktan sonra çağrılır: ağacın kapanmasını bekler, kalanları sonlandırır ve kaynak kullanımını raporlar.
+     */
+    public static void release(Tracked tracked) {
+        if (tracked == null || TRACKED.remove(tracked.root.pid()) == null) {
+            return;
+        }
+        boolean reaped = tracked.terminate(ConfigReader.getProcessExitGraceMillis());
+        tracked.report(reaped ? "reaped" : "clean");
+        writeLedger();
+    }
+
+    /**
+     * Biten (paylaşılmayan) oturumların ortalama tepe RSS'i (kB); henüz ölçüm yoksa 0.
+     */
+    public static long getAverageSessionPeakRssKb() {
+        long sessions = SESSIONS_MEASURED.sum();
+        return sessions == 0 ? 0 : SESSION_PEAK_RSS_KB.sum() / sessions;
+    }
+
+    /**
+     * Oturum kaynak raporunu loglar ve rapor dizinine CSV olarak yazar. Suite sonunda bir kez çağrılması beklenir.
+     */
+    public static void dumpReport() {
+        List<String> rows;
+        synchronized (REPORT_ROWS) {
+            rows = new ArrayList<>(REPORT_ROWS);
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        String header = "session,duration_ms,peak_rss_mb,cpu_ms,processes,exit";
+        logger.info("Browser session resources:\n{}\n{}", header, String.join("\n", rows));
+        try {
+            Path dir = Paths.get(ConfigReader.getReportDirectory());
+            Files.createDirectories(dir);
+            List<String> lines = new ArrayList<>(rows.size() + 1);
+            lines.add(header);
+            lines.addAll(rows);
+            Path file = dir.resolve(REPORT_FILE);
+            Files.write(file, lines, StandardCharsets.UTF_8);
+            logger.info("Session resource report written to {}", file.toAbsolutePath());
+        } catch (IOException e) {
+            logger.warn("Could not write session resource report: {}", e.getMessage());
+        }
+    }
+
+    private static synchronized void startSampler() {
+        if (sampler != null) {
+            return;
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "process-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = ConfigReader.getProcessSampleIntervalMillis();
+        sampler.scheduleWithFixedDelay(ProcessReaper::sampleAll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private static void sampleAll() {
+        try {
+            boolean changed = false;
+            for (Tracked tracked : TRACKED.values()) {
+                if (tracked.owner != null && !tracked.owner.isAlive()) {
+                    if (TRACKED.remove(tracked.root.pid()) != null) {
+                        logger.warn("Owner thread {} of {} is gone; reaping its processes", tracked.owner.getName(), tracked.label);
+                        tracked.terminate(0);
+                        tracked.report("stale");
+                        changed = true;
+                    }
+                } else if (tracked.sample()) {
+                    changed = true;
+                }
+            }
+            if (changed) {
+                writeLedger();
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Process sampling failed: {}", e.getMessage());
+        }
+    }
+
+    private static void reapAll() {
+        for (Tracked tracked : new ArrayList<>(TRACKED.values())) {
+            TRACKED.remove(tracked.root.pid());
+            if (tracked.terminate(0)) {
+                logger.warn("Reaped leftover processes of {} on shutdown", tracked.label);
+            }
+        }
+        deleteLedger(ledgerFile());
+    }
+
+    // PID ledger
+
+    private static Path ledgerFile() {
+        return Paths.get(ConfigReader.getProcessLedgerDirectory()).resolve(SELF.pid() + LEDGER_SUFFIX);
+    }
+
+    private static synchronized void writeLedger() {
+        Path file = ledgerFile();
+        List<String> lines = new ArrayList<>();
+        lines.add(SELF.pid() + " " + startMillis(SELF));
+        for (Tracked tracked : TRACKED.values()) {
+            tracked.known().forEach((pid, start) -> lines.add(pid + " " + start));
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.debug("Could not write process ledger {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static void deleteLedger(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("Could not delete process ledger {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Artık çalışmayan JVM'lerin defterlerindeki, başlangıç zamanı hâlâ eşleşen süreçleri sonlandırır.
+     */
+    private static void reapPreviousRuns() {
+        Path dir = Paths.get(ConfigReader.getProcessLedgerDirectory());
+        if (!ConfigReader.isProcessReaperEnabled() || !Files.isDirectory(dir)) {
+            return;
+        }
+        int reaped = 0;
+        try (DirectoryStream<Path> ledgers = Files.newDirectoryStream(dir, "*" + LEDGER_SUFFIX)) {
+            for (Path ledger : ledgers) {
+                List<long[]> entries = readLedger(ledger);
+                if (entries.isEmpty() || isRunning(entries.get(0))) {
+                    continue;
+                }
+                for (long[] entry : entries.subList(1, entries.size())) {
+                    if (isRunning(entry)) {
+                        ProcessHandle.of(entry[0]).ifPresent(ProcessHandle::destroyForcibly);
+                        reaped++;
+                    }
+                }
+                deleteLedger(ledger);
+            }
+        } catch (IOException e) {
+            logger.debug("Could not scan process ledgers in {}: {}", dir, e.getMessage());
+        }
+        if (reaped > 0) {
+            logger.warn("Reaped {} orphaned browser/driver process(es) left by a previous run", reaped);
+        }
+    }
+
+    private static List<long[]> readLedger(Path ledger) throws IOException {
+        List<long[]> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(ledger, StandardCharsets.UTF_8)) {
+            String[] parts = line.trim().split(" ");
+            if (parts.length == 2) {
+                try {
+                    entries.add(new long[]{Long.parseLong(parts[0]), Long.parseLong(parts[1])});
+                } catch (NumberFormatException ignored) {
+                    // Damaged line
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * PID hâlâ çalışıyor ve aynı süreç mi (başlangıç zamanı bilinmiyorsa güvenli tarafta kalınır: hayır).
+     */
+    private static boolean isRunning(long[] entry) {
+        return entry[1] != 0 && ProcessHandle.of(entry[0])
+                .filter(ProcessHandle::isAlive)
+                .map(p -> startMillis(p) == entry[1])
+                .orElse(false);
+    }
+
+    private static long startMillis(ProcessHandle process) {
+        return process.info().startInstant().map(Instant::toEpochMilli).orElse(0L);
+    }
+
+    /**
+     * Linux {@code /proc/<pid>/status} içindeki VmRSS (kB); okunamazsa 0.
+     */
+    private static long readRssKb(long pid) {
+        Path status = Paths.get("/proc", String.valueOf(pid), "status");
+        try (Stream<String> lines = Files.lines(status, StandardCharsets.UTF_8)) {
+            return lines.filter(l -> l.startsWith("VmRSS:"))
+                    .findFirst()
+                    .map(l -> Long.parseLong(l.replaceAll("[^0-9]", "")))
+                    .orElse(0L);
+        } catch (IOException | RuntimeException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * Bir oturumun izlenen süreç ağacı ve kaynak kullanımı.
+     */
+    public static final class Tracked {
+        private final ProcessHandle root;
+        private final String label;
+        private final Thread owner;
+        private final long startedAtNanos = System.nanoTime();
+        /** Görülen tüm süreçler: pid -> başlangıç zamanı (ms). */
+        private final Map<Long, Long> known = new HashMap<>();
+        /** Süreç başına görülen en yüksek CPU süresi (ns); ölen süreçlerin payı kaybolmaz. */
+        private final Map<Long, Long> cpuNanos = new HashMap<>();
+        private long peakRssKb;
+
+        private Tracked(ProcessHandle root, String label, Thread owner) {
+            this.root = root;
+            this.label = label;
+            this.owner = owner;
+        }
+
+        public String getLabel() { return label; }
+        public synchronized long getPeakRssKb() { return peakRssKb; }
+
+        /**
+         * Ağacı örnekler; yeni bir süreç görüldüyse true döner.
+         */
+        private synchronized boolean sample() {
+            boolean discovered = false;
+            long rssKb = 0;
+            for (ProcessHandle process : liveTree()) {
+                long pid = process.pid();
+                if (!known.containsKey(pid)) {
+                    known.put(pid, startMillis(process));
+                    discovered = true;
+                }
+                rssKb += readRssKb(pid);
+                process.info().totalCpuDuration()
+                        .ifPresent(cpu -> cpuNanos.merge(pid, cpu.toNanos(), Math::max));
+            }
+            peakRssKb = Math.max(peakRssKb, rssKb);
+            return discovered;
+        }
+
+        private synchronized Map<Long, Long> known() {
+            return new HashMap<>(known);
+        }
+
+        private List<ProcessHandle> liveTree() {
+            List<ProcessHandle> tree = new ArrayList<>();
+            if (root.isAlive()) {
+                tree.add(root);
+                root.descendants().forEach(tree::add);
+            }
+            return tree;
+        }
+
+        /**
+         * Ağaçtaki süreçlerin (yeniden ebeveyn almış tarayıcılar dahil) süre içinde kendiliğinden kapanmasını bekler,
+         * kalanları sonlandırır.
+         * @return bir süreç zorla sonlandırıldıysa true
+         */
+        private boolean terminate(long graceMillis) {
+            List<ProcessHandle> remaining;
+            synchronized (this) {
+                remaining = Stream.concat(liveTree().stream(), known.entrySet().stream()
+                                .filter(e -> isRunning(new long[]{e.getKey(), e.getValue()}))
+                                .map(e -> ProcessHandle.of(e.getKey()))
+                                .flatMap(Optional::stream))
+                        .distinct()
+                        .collect(Collectors.toList());
+            }
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(graceMillis);
+            boolean reaped = false;
+            for (ProcessHandle process : remaining) {
+                long left = deadline - System.nanoTime();
+                if (left > 0 && process.isAlive()) {
+                    try {
+                        process.onExit().get(left, TimeUnit.NANOSECONDS);
+                    } catch (Exception ignored) {
+                        // Grace period exceeded
+                    }
+                }
+                if (process.isAlive()) {
+                    process.destroyForcibly();
+                    reaped = true;
+                }
+            }
+            return reaped;
+        }
+
+        private synchronized void report(String exit) {
+            long durationMs = (System.nanoTime() - startedAtNanos) / 1_000_000L;
+            long cpuMs = cpuNanos.values().stream().mapToLong(Long::longValue).sum() / 1_000_000L;
+            double peakRssMb = peakRssKb / 1024.0;
+            if (owner != null && peakRssKb > 0) {
+                SESSION_PEAK_RSS_KB.add(peakRssKb);
+                SESSIONS_MEASURED.increment();
+            }
+            REPORT_ROWS.add(String.format(Locale.ROOT, "%s,%d,%.1f,%d,%d,%s",
+                    label, durationMs, peakRssMb, cpuMs, known.size(), exit));
+            logger.info("Session {} resources: peak RSS {} MB, CPU {} ms across {} process(es) [{}]",
+                    label, String.format(Locale.ROOT, "%.1f", peakRssMb), cpuMs, known.size(), exit);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.test.utils;
+
+import com.test.config.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+
+import java.net.ConnectException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Yerel bir Selenium Grid / standalone düğümüne (ya da Selenoid'e) RemoteWebDriver oturumları açan fabrika.
+ * <ul>
+ *   <li>İstemci tarafı kuyruk: JVM başına açık oturum sayısı adil (FIFO) bir semafor ile sınırlanır; grid yeni oturumu
+ *       reddederse (düğümler dolu, kuyruk zaman aşımı) artan ve rastgele sapmalı bekleme ile yeniden denenir.
+ *       Birden fazla koşucu JVM'i arasındaki sıra grid'in kendi FIFO oturum kuyruğuna bırakılır.</li>
+ *   <li>Bağlantı yeniden kullanımı: tüm oturumlar {@link SharedHttpClientFactory} üzerinden aynı HTTP istemcisini
+ *       paylaşır; oturum kapanınca istemci kapanmaz, keep-alive bağlantıları sonraki oturumlara kalır.</li>
+ *   <li>Yetenek hazır ayarları: yerel tarayıcı seçenekleri aynen gönderilir, {@code grid.preset} ile grid'e özgü
+ *       alanlar ({@code se:name}, Selenoid {@code selenoid:options}) eklenir.</li>
+ * </ul>
+ */
+public final class RemoteSessionFactory {
+
+    private static final Logger logger = LogManager.getLogger(RemoteSessionFactory.class);
+    private static final long MAX_BACKOFF_MS = 10_000;
+
+    private static final Semaphore SESSION_SLOTS = new Semaphore(sessionLimit(), true);
+
+    private static final SharedHttpClientFactory CLIENT_FACTORY = new SharedHttpClientFactory();
+
+    private static ClientConfig clientConfig;
+
+    private RemoteSessionFactory() {
+        // Utility class
+    }
+
+    /**
+     * Sırası geldiğinde bir oturum açar. Dönen oturum {@link #release()} çağrılana kadar bir yer tutar.
+     * @param options yerel sürücüyle aynı tarayıcı seçenekleri
+     * @param sessionName grid arayüzünde görünecek oturum adı
+     * @throws SessionNotCreatedException kuyruk zaman aşımına kadar oturum açılamazsa
+     */
+    public static WebDriver create(MutableCapabilities options, String sessionName) {
+        applyPreset(options, sessionName);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(ConfigReader.getGridQueueTimeoutSeconds());
+        acquireSlot(deadline);
+        try {
+            return createWithBackoff(options, deadline);
+        } catch (RuntimeException e) {
+            SESSION_SLOTS.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Kapatılan bir oturumun yerini kuyruktaki bir sonraki senaryoya bırakır.
+     */
+    public static void release() {
+        SESSION_SLOTS.release();
+    }
+
+    private static void acquireSlot(long deadline) {
+        try {
+            long waitNanos = deadline - System.nanoTime();
+            if (!SESSION_SLOTS.tryAcquire(Math.max(0, waitNanos), TimeUnit.NANOSECONDS)) {
+                throw new SessionNotCreatedException("No grid session slot became free within "
+                        + ConfigReader.getGridQueueTimeoutSeconds() + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SessionNotCreatedException("Interrupted while queued for a grid session");
+        }
+    }
+
+    private static WebDriver createWithBackoff(MutableCapabilities options, long deadline) {
+        long backoff = ConfigReader.getGridRetryBackoffMillis();
+        int attempt = 1;
+        while (true) {
+            long start = System.nanoTime();
+            try {
+                RemoteWebDriver driver = new RemoteWebDriver(
+                        new HttpCommandExecutor(Collections.emptyMap(), clientConfig(), CLIENT_FACTORY), options);
+                logger.info("Grid session {} created in {} ms (attempt {})", driver.getSessionId(),
+                        (System.nanoTime() - start) / 1_000_000L, attempt);
+                return augment(driver);
+            } catch (SessionNotCreatedException e) {
+                if (isUnreachable(e)) {
+                    throw e;
+                }
+                long sleep = Math.min(MAX_BACKOFF_MS, backoff) + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+                if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sleep) > deadline) {
+                    throw e;
+                }
+                logger.warn("Grid refused session (attempt {}), retrying in {} ms: {}", attempt, sleep, firstLine(e.getMessage()));
+                CommonUtils.waitForMillis(sleep);
+                backoff = Math.min(MAX_BACKOFF_MS, backoff * 2);
+                attempt++;
+            }
+        }
+    }
+
+    /**
+     * Oturuma tarayıcının sunduğu ek arayüzleri (Chromium'da {@code HasCdp}) ekler; eklenemezse oturum olduğu gibi
+     * kullanılır.
+     */
+    private static WebDriver augment(RemoteWebDriver driver) {
+        try {
+            return new Augmenter().augment(driver);
+        } catch (RuntimeException e) {
+            logger.warn("Could not augment grid session {}, CDP features are unavailable: {}", driver.getSessionId(),
+                    firstLine(e.getMessage()));
+            return driver;
+        }
+    }
+
+    /**
+     * Grid'e özgü yetenekleri ekler: {@code se:name} ve isteğe bağlı sürüm; {@code selenoid} ön ayarında VNC/video.
+     */
+    private static void applyPreset(MutableCapabilities options, String sessionName) {
+        options.setCapability("se:name", sessionName);
+        String version = ConfigReader.getGridBrowserVersion();
+        if (!version.isEmpty() && !"latest".equalsIgnoreCase(version)) {
+            options.setCapability("browserVersion", version);
+        }
+        if ("selenoid".equals(ConfigReader.getGridPreset().toLowerCase(Locale.ROOT))) {
+            Map<String, Object> selenoid = new HashMap<>();
+            selenoid.put("name", sessionName);
+            selenoid.put("enableVNC", true);
+            selenoid.put("enableVideo", ConfigReader.isGridVideoEnabled());
+            options.setCapability("selenoid:options", selenoid);
+        }
+    }
+
+    private static int sessionLimit() {
+        int configured = ConfigReader.getGridMaxSessions();
+        return configured > 0 ? configured : ConcurrencyController.getInstance().getMaxConcurrency();
+    }
+
+    private static synchronized ClientConfig clientConfig() {
+        if (clientConfig == null) {
+            try {
+                clientConfig = ClientConfig.defaultConfig()
+                        .baseUrl(new URL(ConfigReader.getGridHubUrl()))
+                        .connectionTimeout(Duration.ofSeconds(10))
+                        .readTimeout(Duration.ofSeconds(ConfigReader.getGridQueueTimeoutSeconds()));
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException("Invalid grid.hub.url: " + ConfigReader.getGridHubUrl(), e);
+            }
+        }
+        return clientConfig;
+    }
+
+    /**
+     * Grid'e hiç bağlanılamıyorsa (yanlış adres, grid kapalı) beklemenin anlamı yoktur.
+     */
+    private static boolean isUnreachable(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof ConnectException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+}
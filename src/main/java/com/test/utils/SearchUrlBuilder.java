@@ -0,0 +1,258 @@
+package com.test.utils;
+
+import com.test.config.ConfigReader;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Amazon arama sonuç URL'i oluşturucu ({@code /s?k=...&s=...&rh=...&page=...}).
+ * Anahtar kelime, sıralama, marka ({@code p_89}), fiyat aralığı ({@code p_36}, sent cinsinden) ve sayfa
+ * numarasını tek URL'de birleştirir; böylece sıralanmış ve filtrelenmiş sonuçlara tek sayfa yüklemesiyle gidilir.
+ */
+public class SearchUrlBuilder {
+
+    /**
+     * Amazon'un {@code s} parametresiyle desteklenen sıralama seçenekleri.
+     */
+    public enum SortOrder {
+        RELEVANCE("relevanceblender"),
+        PRICE_LOW_TO_HIGH("price-asc-rank"),
+        PRICE_HIGH_TO_LOW("price-desc-rank"),
+        AVERAGE_REVIEW("review-rank"),
+        NEWEST("date-desc-rank");
+
+        private final String value;
+
+        SortOrder(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    private final String baseUrl;
+    private String keyword;
+    private SortOrder sortOrder;
+    /** URL'den okunan ve {@link SortOrder}'da karşılığı olmayan sıralama değeri. */
+    private String otherSort;
+    private final Set<String> brands = new LinkedHashSet<>();
+    /** URL'den okunan marka/fiyat dışı {@code rh} filtreleri (çözülmüş). */
+    private final List<String> otherRefinements = new ArrayList<>();
+    /** URL'den okunan diğer parametreler; ham {@code ad=değer} olarak aynen yazılır. */
+    private final List<String> otherParameters = new ArrayList<>();
+    private Double minPrice;
+    private Double maxPrice;
+    private int page = 1;
+
+    /**
+     * Yapılandırmadaki base URL ile oluşturucu.
+     */
+    public SearchUrlBuilder() {
+        this(ConfigReader.getBaseUrl());
+    }
+
+    public SearchUrlBuilder(String baseUrl) {
+        this.baseUrl = baseUrl.replaceAll("/+$", "");
+    }
+
+    public static SearchUrlBuilder forKeyword(String keyword) {
+        return new SearchUrlBuilder().keyword(keyword);
+    }
+
+    /**
+     * Mevcut bir sonuç URL'inden oluşturucu. Anahtar kelime, sıralama, marka, fiyat ve sayfa okunur; tanınmayan
+     * parametreler (ör. bölüm {@code i}), diğer {@code rh} filtreleri (ör. {@code n:...}) ve bilinmeyen sıralama
+     * değerleri olduğu gibi korunur, {@link #build()} yalnızca oluşturucunun ayarladığı anahtarları değiştirir.
+     * Adres çubuğunda kodlanmamış kalan karakterler ({@code |} gibi) hata vermez.
+     */
+    public static SearchUrlBuilder fromUrl(String url) {
+        int fragment = url.indexOf('#');
+        String withoutFragment = fragment < 0 ? url : url.substring(0, fragment);
+        int queryStart = withoutFragment.indexOf('?');
+        String query = queryStart < 0 ? null : withoutFragment.substring(queryStart + 1);
+        SearchUrlBuilder builder = new SearchUrlBuilder(origin(queryStart < 0 ? withoutFragment : withoutFragment.substring(0, queryStart)));
+        if (query == null || query.isEmpty()) {
+            return builder;
+        }
+        for (String pair : query.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int eq = pair.indexOf('=');
+            String name = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : decode(pair.substring(eq + 1));
+            switch (name) {
+                case "k":
+                    builder.keyword(value);
+                    break;
+                case "s":
+                    builder.otherSort = value;
+                    for (SortOrder order : SortOrder.values()) {
+                        if (order.getValue().equals(value)) {
+                            builder.sort(order);
+                        }
+                    }
+                    break;
+                case "page":
+                    if (value.matches("[1-9][0-9]{0,8}")) {
+                        builder.page(Integer.parseInt(value));
+                    } else {
+                        builder.otherParameters.add(pair);
+                    }
+                    break;
+                case "rh":
+                    builder.parseRefinements(value);
+                    break;
+                default:
+                    builder.otherParameters.add(pair);
+                    break;
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * {@code scheme://host[:port]}; şema yoksa yapılandırmadaki base URL.
+     */
+    private static String origin(String urlWithoutQuery) {
+        int scheme = urlWithoutQuery.indexOf("://");
+        if (scheme < 0) {
+            return ConfigReader.getBaseUrl();
+        }
+        int path = urlWithoutQuery.indexOf('/', scheme + 3);
+        return path < 0 ? urlWithoutQuery : urlWithoutQuery.substring(0, path);
+    }
+
+    /**
+     * Hatalı yüzde kodlamasında değeri olduğu gibi bırakır.
+     */
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return value;
+        }
+    }
+
+    private void parseRefinements(String rh) {
+        for (String refinement : rh.split(",")) {
+            if (refinement.startsWith("p_89:")) {
+                for (String brand : refinement.substring(5).split("\\|")) {
+                    brand(brand);
+                }
+            } else if (refinement.startsWith("p_36:") && refinement.substring(5).matches("[0-9]*-[0-9]*")) {
+                String[] range = refinement.substring(5).split("-", -1);
+                minPrice = range[0].isEmpty() ? null : Long.parseLong(range[0]) / 100.0;
+                maxPrice = range[1].isEmpty() ? null : Long.parseLong(range[1]) / 100.0;
+            } else if (!refinement.isEmpty()) {
+                otherRefinements.add(refinement);
+            }
+        }
+    }
+
+    public SearchUrlBuilder keyword(String keyword) {
+        this.keyword = keyword;
+        return this;
+    }
+
+    public SearchUrlBuilder sort(SortOrder sortOrder) {
+        this.sortOrder = sortOrder;
+        this.otherSort = null;
+        return this;
+    }
+
+    /**
+     * Marka filtresi ekler; birden fazla marka "veya" ile birleşir.
+     */
+    public SearchUrlBuilder brand(String brand) {
+        if (brand != null && !brand.trim().isEmpty()) {
+            brands.add(brand.trim());
+        }
+        return this;
+    }
+
+    /**
+     * Fiyat aralığı (dolar); sınırlardan biri null olabilir.
+     */
+    public SearchUrlBuilder priceRange(Double min, Double max) {
+        if (min != null && max != null && min > max) {
+            throw new IllegalArgumentException("Minimum price " + min + " is greater than maximum price " + max);
+        }
+        this.minPrice = min;
+        this.maxPrice = max;
+        return this;
+    }
+
+    public SearchUrlBuilder page(int page) {
+        if (page < 1) {
+            throw new IllegalArgumentException("Page number must be positive: " + page);
+        }
+        this.page = page;
+        return this;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public SortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * Kodlanmış sonuç URL'ini döner.
+     */
+    public String build() {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            throw new IllegalStateException("Search keyword is required");
+        }
+        StringBuilder url = new StringBuilder(baseUrl).append("/s?k=").append(encode(keyword.trim()));
+        if (sortOrder != null) {
+            url.append("&s=").append(sortOrder.getValue());
+        } else if (otherSort != null) {
+            url.append("&s=").append(encode(otherSort));
+        }
+        List<String> refinements = new ArrayList<>(otherRefinements);
+        if (!brands.isEmpty()) {
+            refinements.add("p_89:" + String.join("|", brands));
+        }
+        if (minPrice != null || maxPrice != null) {
+            refinements.add("p_36:" + toCents(minPrice) + "-" + toCents(maxPrice));
+        }
+        if (!refinements.isEmpty()) {
+            url.append("&rh=").append(encode(String.join(",", refinements)));
+        }
+        if (page > 1) {
+            url.append("&page=").append(page);
+        }
+        for (String parameter : otherParameters) {
+            url.append('&').append(parameter);
+        }
+        return url.toString();
+    }
+
+    private static String toCents(Double price) {
+        return price == null ? "" : String.valueOf(Math.round(price * 100));
+    }
+
+    static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return build();
+    }
+}
@@ -0,0 +1,340 @@
+package com.test.utils;
+
+import com.test.config.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Oturum açılmış tarayıcı durumunu (çerezler + localStorage/sessionStorage) önbelleğe alır.
+ * İlk senaryoda UI ile giriş yapılır, durum bellekte ve AES-GCM ile şifrelenmiş bir dosyada saklanır;
+ * sonraki oturumlara milisaniyeler içinde geri yüklenir. Süresi dolmuş ya da geri yükleme sonrası
+ * doğrulanamayan oturumlarda önbellek silinir ve otomatik olarak yeniden giriş yapılır.
+ * <p>
+ * Şifreleme anahtarı {@code session.cache.secret} (ya da {@code SESSION_CACHE_SECRET} ortam değişkeni)
+ * ile türetilir; tanımlı değilse JVM başına rastgele bir anahtar kullanılır ve dosya yalnızca aynı
+ * koşu (suite) içinde geçerlidir.
+ */
+public final class SessionCache {
+
+    private static final Logger logger = LogManager.getLogger(SessionCache.class);
+
+    private static final byte[] MAGIC = "SC1".getBytes(StandardCharsets.US_ASCII);
+    private static final int SALT_LENGTH = 16;
+    private static final int IV_LENGTH = 12;
+    private static final int GCM_TAG_BITS = 128;
+    private static final int PBKDF2_ITERATIONS = 65_536;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /** Sırrı tanımlı değilse bu koşuya özel anahtar. */
+    private static final byte[] RUN_KEY = randomBytes(32);
+
+    private static final ObjectInputFilter SNAPSHOT_FILTER = ObjectInputFilter.Config.createFilter(
+            SessionSnapshot.class.getName() + ";org.openqa.selenium.Cookie;java.util.*;java.lang.*;!*");
+
+    private static final String READ_STORAGE_JS =
+            "function dump(s) { var o = {}; for (var i = 0; i < s.length; i++) { var k = s.key(i); o[k] = s.getItem(k); } return o; }" +
+            "return {local: dump(window.localStorage), session: dump(window.sessionStorage)};";
+
+    private static final String WRITE_STORAGE_JS =
+            "var local = arguments[0], session = arguments[1];" +
+            "Object.keys(local).forEach(function (k) { window.localStorage.setItem(k, local[k]); });" +
+            "Object.keys(session).forEach(function (k) { window.sessionStorage.setItem(k, session[k]); });";
+
+    private static final Map<String, SessionSnapshot> MEMORY = new ConcurrentHashMap<>();
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private SessionCache() {
+        // Utility class
+    }
+
+    /**
+     * Önbellekteki oturumu geri yükler; yoksa, süresi dolmuşsa ya da doğrulanamazsa giriş yapıp önbelleğe alır.
+     * Aynı hesap için eşzamanlı çağrılar sıraya girer, böylece koşu başına tek UI girişi yapılır.
+     * @param driver oturumun kurulacağı sürücü
+     * @param accountKey hesap anahtarı (ör. kullanıcı adı)
+     * @param login UI ile giriş akışı
+     * @param isSignedIn oturumun açık olduğunu doğrulayan kontrol
+     * @return true ise oturum önbellekten geri yüklendi, false ise yeni giriş yapıldı
+     */
+    public static boolean restoreOrLogin(WebDriver driver, String accountKey, Runnable login, BooleanSupplier isSignedIn) {
+        synchronized (LOCKS.computeIfAbsent(accountKey, k -> new Object())) {
+            SessionSnapshot snapshot = load(accountKey);
+            if (snapshot != null) {
+                long start = System.currentTimeMillis();
+                restore(driver, snapshot);
+                if (isSignedIn.getAsBoolean()) {
+                    logger.info("Session for {} restored from cache in {} ms", mask(accountKey), System.currentTimeMillis() - start);
+                    return true;
+                }
+                logger.info("Cached session for {} was rejected by the site, logging in again", mask(accountKey));
+                invalidate(accountKey);
+            }
+
+            long start = System.currentTimeMillis();
+            login.run();
+            if (!isSignedIn.getAsBoolean()) {
+                throw new RuntimeException("Login failed for account " + mask(accountKey));
+            }
+            store(accountKey, capture(driver));
+            logger.info("Logged in as {} via UI in {} ms and cached the session", mask(accountKey), System.currentTimeMillis() - start);
+            return false;
+        }
+    }
+
+    /**
+     * Hesabın önbelleğini bellekten ve diskten siler.
+     */
+    public static void invalidate(String accountKey) {
+        MEMORY.remove(accountKey);
+        try {
+            Files.deleteIfExists(cacheFile(accountKey));
+        } catch (IOException e) {
+            logger.warn("Could not delete session cache file: {}", e.getMessage());
+        }
+    }
+
+    // Capture / restore
+
+    @SuppressWarnings("unchecked")
+    private static SessionSnapshot capture(WebDriver driver) {
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(READ_STORAGE_JS);
+        String origin = originOf(driver.getCurrentUrl());
+        List<Cookie> cookies = new ArrayList<>(driver.manage().getCookies());
+
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ConfigReader.getSessionCacheTtlMinutes() * 60_000L;
+        List<String> authCookies = Arrays.asList(ConfigReader.getSessionAuthCookies().split("\\s*,\\s*"));
+        for (Cookie cookie : cookies) {
+            if (cookie.getExpiry() != null && authCookies.contains(cookie.getName())) {
+                expiresAt = Math.min(expiresAt, cookie.getExpiry().getTime());
+            }
+        }
+        return new SessionSnapshot(origin, cookies, toStringMap(storage.get("local")), toStringMap(storage.get("session")), now, expiresAt);
+    }
+
+    private static void restore(WebDriver driver, SessionSnapshot snapshot) {
+        // Çerezler yalnızca aynı alan adındayken eklenebilir
+        if (!driver.getCurrentUrl().startsWith(snapshot.origin)) {
+            driver.get(snapshot.origin);
+        }
+        driver.manage().deleteAllCookies();
+        for (Cookie cookie : snapshot.cookies) {
+            try {
+                driver.manage().addCookie(cookie);
+            } catch (WebDriverException e) {
+                logger.debug("Skipping cookie {} ({})", cookie.getName(), e.getMessage());
+            }
+        }
+        ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE_JS, snapshot.localStorage, snapshot.sessionStorage);
+        driver.navigate().refresh();
+    }
+
+    // Storage
+
+    private static SessionSnapshot load(String accountKey) {
+        SessionSnapshot snapshot = MEMORY.get(accountKey);
+        if (snapshot == null) {
+            snapshot = readFile(accountKey);
+        }
+        if (snapshot == null) {
+            return null;
+        }
+        if (snapshot.isExpired()) {
+            logger.info("Cached session for {} expired, logging in again", mask(accountKey));
+            invalidate(accountKey);
+            return null;
+        }
+        MEMORY.put(accountKey, snapshot);
+        return snapshot;
+    }
+
+    private static void store(String accountKey, SessionSnapshot snapshot) {
+        MEMORY.put(accountKey, snapshot);
+        try {
+            Path file = cacheFile(accountKey);
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), "session", ".tmp");
+            Files.write(tmp, encrypt(serialize(snapshot)));
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | GeneralSecurityException e) {
+            logger.warn("Could not write session cache file, keeping it in memory only: {}", e.getMessage());
+        }
+    }
+
+    private static SessionSnapshot readFile(String accountKey) {
+        Path file = cacheFile(accountKey);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            return deserialize(decrypt(Files.readAllBytes(file)));
+        } catch (IOException | GeneralSecurityException | ClassNotFoundException e) {
+            // Farklı anahtarla yazılmış ya da bozulmuş dosya
+            logger.info("Discarding unreadable session cache file {}: {}", file.getFileName(), e.getMessage());
+            invalidate(accountKey);
+            return null;
+        }
+    }
+
+    private static Path cacheFile(String accountKey) {
+        return Paths.get(ConfigReader.getSessionCacheDirectory(), sha256Hex(accountKey).substring(0, 16) + ".session");
+    }
+
+    // Serialization and encryption
+
+    private static byte[] serialize(SessionSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(snapshot);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static SessionSnapshot deserialize(byte[] data) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            in.setObjectInputFilter(SNAPSHOT_FILTER);
+            return (SessionSnapshot) in.readObject();
+        }
+    }
+
+    /** Dosya biçimi: "SC1" | tuz (16) | IV (12) | AES-GCM şifreli veri. */
+    private static byte[] encrypt(byte[] plain) throws GeneralSecurityException {
+        byte[] salt = randomBytes(SALT_LENGTH);
+        byte[] iv = randomBytes(IV_LENGTH);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, key(salt), new GCMParameterSpec(GCM_TAG_BITS, iv));
+        cipher.updateAAD(MAGIC);
+        byte[] encrypted = cipher.doFinal(plain);
+        return ByteBuffer.allocate(MAGIC.length + SALT_LENGTH + IV_LENGTH + encrypted.length)
+                .put(MAGIC).put(salt).put(iv).put(encrypted).array();
+    }
+
+    private static byte[] decrypt(byte[] data) throws GeneralSecurityException {
+        if (data.length <= MAGIC.length + SALT_LENGTH + IV_LENGTH
+                || !Arrays.equals(Arrays.copyOf(data, MAGIC.length), MAGIC)) {
+            throw new GeneralSecurityException("Not a session cache file");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data, MAGIC.length, data.length - MAGIC.length);
+        byte[] salt = new byte[SALT_LENGTH];
+        byte[] iv = new byte[IV_LENGTH];
+        buffer.get(salt).get(iv);
+        byte[] encrypted = new byte[buffer.remaining()];
+        buffer.get(encrypted);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, key(salt), new GCMParameterSpec(GCM_TAG_BITS, iv));
+        cipher.updateAAD(MAGIC);
+        return cipher.doFinal(encrypted);
+    }
+
+    private static SecretKey key(byte[] salt) throws GeneralSecurityException {
+        String secret = ConfigReader.getSessionCacheSecret();
+        if (secret.isEmpty()) {
+            return new SecretKeySpec(RUN_KEY, "AES");
+        }
+        SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
+        byte[] derived = factory.generateSecret(new PBEKeySpec(secret.toCharArray(), salt, PBKDF2_ITERATIONS, 256)).getEncoded();
+        return new SecretKeySpec(derived, "AES");
+    }
+
+    // Helpers
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        RANDOM.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String originOf(String url) {
+        int schemeEnd = url.indexOf("://");
+        int pathStart = schemeEnd < 0 ? -1 : url.indexOf('/', schemeEnd + 3);
+        return (pathStart < 0 ? url : url.substring(0, pathStart)) + "/";
+    }
+
+    private static HashMap<String, String> toStringMap(Object value) {
+        HashMap<String, String> map = new HashMap<>();
+        if (value instanceof Map) {
+            ((Map<?, ?>) value).forEach((k, v) -> map.put(String.valueOf(k), v == null ? null : String.valueOf(v)));
+        }
+        return map;
+    }
+
+    private static String mask(String accountKey) {
+        int at = accountKey.indexOf('@');
+        return accountKey.length() <= 2 ? "**" : accountKey.charAt(0) + "***" + (at > 0 ? accountKey.substring(at) : "");
+    }
+
+    /**
+     * Şifrelenerek saklanan oturum durumu.
+     */
+    static final class SessionSnapshot implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String origin;
+        private final ArrayList<Cookie> cookies;
+        private final HashMap<String, String> localStorage;
+        private final HashMap<String, String> sessionStorage;
+        private final long capturedAtMillis;
+        private final long expiresAtMillis;
+
+        SessionSnapshot(String origin, List<Cookie> cookies, HashMap<String, String> localStorage,
+                        HashMap<String, String> sessionStorage, long capturedAtMillis, long expiresAtMillis) {
+            this.origin = origin;
+            this.cookies = new ArrayList<>(cookies);
+            this.localStorage = localStorage;
+            this.sessionStorage = sessionStorage;
+            this.capturedAtMillis = capturedAtMillis;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAtMillis;
+        }
+    }
+}
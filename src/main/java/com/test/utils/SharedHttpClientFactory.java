@@ -0,0 +1,136 @@
+package com.test.utils;
+
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpClientName;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+import org.openqa.selenium.remote.http.jdk.JdkHttpClient;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tüm WebDriver oturumlarının komutlarını aynı JDK HTTP istemcisi üzerinden gönderen istemci fabrikası.
+ * Selenium'un varsayılan fabrikası her sürücü için ayrı bir istemci (ayrı iş parçacığı havuzu ve bağlantı havuzu)
+ * kurar; burada zaman aşımı ayarları aynı olan oturumlar tek istemciyi paylaşır, localhost sürücü servislerine açılan
+ * keep-alive bağlantıları da tek havuzda tutulur.
+ * <ul>
+ *   <li>Her oturum kendi {@link ClientConfig}'inin adresini ve filtrelerini korur; istekler paylaşılan istemciye
+ *       tam adresle gider.</li>
+ *   <li>Oturum kapanınca ({@link HttpClient#close()}) paylaşılan istemci kapanmaz.</li>
+ *   <li>WebSocket (CDP/BiDi) bağlantıları oturuma ait ayrı bir istemciyle açılır ve oturumla birlikte kapanır.</li>
+ *   <li>Proxy ya da kimlik bilgisi içeren ayarlar paylaşılmaz.</li>
+ * </ul>
+ * {@code webdriver.http.factory} sistem özelliği {@link #NAME} olduğunda Selenium bu fabrikayı ServiceLoader ile bulur
+ * (bkz. {@code DriverManager}).
+ */
+@HttpClientName(SharedHttpClientFactory.NAME)
+public class SharedHttpClientFactory implements HttpClient.Factory {
+
+    public static final String NAME = "shared-jdk-http-client";
+
+    /** Zaman aşımı çiftine göre paylaşılan istemciler; ServiceLoader her seferinde yeni fabrika örneği kurar. */
+    private static final Map<String, HttpClient> SHARED = new ConcurrentHashMap<>();
+
+    private final JdkHttpClient.Factory jdk = new JdkHttpClient.Factory();
+
+    @Override
+    public HttpClient createClient(ClientConfig config) {
+        if (config.proxy() != null || config.credentials() != null || config.sslContext() != null) {
+            return jdk.createClient(config);
+        }
+        HttpClient shared = SHARED.computeIfAbsent(key(config), k -> jdk.createClient(sharedConfig(config)));
+        return new SessionClient(config, shared, jdk);
+    }
+
+    /**
+     * Oturumun zaman aşımlarıyla, adresi ve filtresi olmayan istemci ayarı; filtreler oturum tarafında uygulanır.
+     */
+    private static ClientConfig sharedConfig(ClientConfig config) {
+        ClientConfig shared = ClientConfig.defaultConfig()
+                .baseUri(URI.create("http://localhost"))
+                .connectionTimeout(config.connectionTimeout())
+                .readTimeout(config.readTimeout())
+                .withFilter(next -> next);
+        return config.version() == null ? shared : shared.version(config.version());
+    }
+
+    /**
+     * Paylaşılan istemcileri kapatır; yalnızca tüm oturumlar bittikten sonra çağrılmalıdır.
+     */
+    public static void closeAll() {
+        SHARED.values().forEach(HttpClient::close);
+        SHARED.clear();
+    }
+
+    private static String key(ClientConfig config) {
+        return config.connectionTimeout().toMillis() + "/" + config.readTimeout().toMillis() + "/" + config.version();
+    }
+
+    /**
+     * Tek oturumun görünümü: göreli komut adreslerini oturumun adresine göre tamamlar, oturumun filtrelerini uygular.
+     */
+    private static final class SessionClient implements HttpClient {
+        private final ClientConfig config;
+        private final HttpHandler handler;
+        private final JdkHttpClient.Factory socketFactory;
+        private HttpClient socketClient;
+
+        private SessionClient(ClientConfig config, HttpClient shared, JdkHttpClient.Factory socketFactory) {
+            this.config = config;
+            this.socketFactory = socketFactory;
+            Filter filter = config.filter();
+            this.handler = filter.andFinally(request -> shared.execute(absolute(request)));
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            return handler.execute(request);
+        }
+
+        @Override
+        public synchronized WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            if (socketClient == null) {
+                socketClient = socketFactory.createClient(config);
+            }
+            return socketClient.openSocket(request, listener);
+        }
+
+        @Override
+        public synchronized void close() {
+            // Shared client stays open; its pooled connections serve the next sessions
+            if (socketClient != null) {
+                socketClient.close();
+                socketClient = null;
+            }
+        }
+
+        private HttpRequest absolute(HttpRequest request) {
+            String uri = request.getUri();
+            if (uri.startsWith("http://") || uri.startsWith("https://")) {
+                return request;
+            }
+            String base = config.baseUri().toString();
+            if (base.endsWith("/") && uri.startsWith("/")) {
+                base = base.substring(0, base.length() - 1);
+            }
+            HttpRequest copy = new HttpRequest(request.getMethod(), base + uri);
+            request.forEachHeader(copy::addHeader);
+            for (String name : request.getQueryParameterNames()) {
+                for (String value : request.getQueryParameters(name)) {
+                    copy.addQueryParameter(name, value);
+                }
+            }
+            for (String name : request.getAttributeNames()) {
+                copy.setAttribute(name, request.getAttribute(name));
+            }
+            copy.setContent(request.getContent());
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.test.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Sabit kapasiteli "en büyük K eleman" seçicisi.
+ * Elemanlar tek tek eklenir; içeride K boyutlu bir min-heap tutulur, böylece tüm liste
+ * bellekte sıralanmadan O(n log K) maliyetle en büyük K eleman bulunur.
+ *
+ * @param <T> eleman tipi
+ */
+public class TopK<T> {
+
+    private final int capacity;
+    private final Comparator<? super T> comparator;
+    private final PriorityQueue<T> heap;
+
+    /**
+     * @param capacity tutulacak eleman sayısı (K)
+     * @param comparator sıralama ölçütü; "en büyük" bu karşılaştırıcıya göre belirlenir
+     */
+    public TopK(int capacity, Comparator<? super T> comparator) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Top-K capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.comparator = comparator;
+        this.heap = new PriorityQueue<>(capacity + 1, comparator);
+    }
+
+    /**
+     * Elemanı ekler; heap doluysa ve eleman en küçükten büyükse en küçüğün yerini alır.
+     * @return eleman ilk K içine girdiyse true
+     */
+    public boolean offer(T item) {
+        if (heap.size() < capacity) {
+            heap.add(item);
+            return true;
+        }
+        if (comparator.compare(item, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(item);
+            return true;
+        }
+        return false;
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    /**
+     * Tutulan elemanları büyükten küçüğe sıralı döner.
+     */
+    public List<T> toSortedList() {
+        List<T> result = new ArrayList<>(heap);
+        result.sort(comparator.reversed());
+        return result;
+    }
+}
@@ -1,24 +1,28 @@
 package com.test.utils;
 
+import com.test.config.ConfigReader;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Sleeper;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.function.Function;
 
 /**
  * Basic wait utilities class for BasePage compatibility.
  * Provides basic waiting functionality while the enhanced version has more advanced features.
+ * With {@code wait.backend=event} conditions complete from in-page events (see {@link EventWaits}).
  */
 public class WaitUtils {
     
     private static final Logger logger = LogManager.getLogger(WaitUtils.class);
     private static final Duration DEFAULT_SLEEP_STEP = Duration.ofMillis(250);
+    private static final ThreadLocal<WaitUtils> SHARED = new ThreadLocal<>();
     private final WebDriver driver;
-    private final WebDriverWait wait;
+    private final AdaptiveWait wait;
     private static final int DEFAULT_TIMEOUT = 20;
 
     /**
@@ -64,7 +68,20 @@ public class WaitUtils {
      */
     public WaitUtils(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
+        this.wait = AdaptiveWait.of(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
+    }
+
+    /**
+     * Shared instance for the current thread's driver; page objects reuse it instead of building their own.
+     * @param driver WebDriver instance
+     */
+    public static WaitUtils of(WebDriver driver) {
+        WaitUtils shared = SHARED.get();
+        if (shared == null || shared.driver != driver) {
+            shared = new WaitUtils(driver);
+            SHARED.set(shared);
+        }
+        return shared;
     }
     
     /**
@@ -74,7 +91,8 @@ public class WaitUtils {
      */
     public WebElement waitForElementToBeVisible(WebElement element) {
         try {
-            return wait.until(ExpectedConditions.visibilityOf(element));
+            return until(ExpectedConditions.visibilityOf(element),
+                    timeout -> EventWaits.await(driver, EventWaits.Signal.VISIBLE, element, timeout));
         } catch (TimeoutException e) {
             logger.error("Element did not become visible within {} seconds", DEFAULT_TIMEOUT);
             throw e;
@@ -88,7 +106,8 @@ public class WaitUtils {
      */
     public WebElement waitForElementToBeVisible(By locator) {
         try {
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            return until(ExpectedConditions.visibilityOfElementLocated(locator),
+                    timeout -> EventWaits.await(driver, EventWaits.Signal.VISIBLE, locator, null, timeout));
         } catch (TimeoutException e) {
             logger.error("Element did not become visible within {} seconds: {}", DEFAULT_TIMEOUT, locator);
             throw e;
@@ -102,7 +121,8 @@ public class WaitUtils {
      */
     public WebElement waitForElementToBeClickable(WebElement element) {
         try {
-            return wait.until(ExpectedConditions.elementToBeClickable(element));
+            return until(ExpectedConditions.elementToBeClickable(element),
+                    timeout -> EventWaits.await(driver, EventWaits.Signal.CLICKABLE, element, timeout));
         } catch (TimeoutException e) {
             logger.error("Element did not become clickable within {} seconds", DEFAULT_TIMEOUT);
             throw e;
@@ -116,7 +136,8 @@ public class WaitUtils {
      */
     public WebElement waitForElementToBeClickable(By locator) {
         try {
-            return wait.until(ExpectedConditions.elementToBeClickable(locator));
+            return until(ExpectedConditions.elementToBeClickable(locator),
+                    timeout -> EventWaits.await(driver, EventWaits.Signal.CLICKABLE, locator, null, timeout));
         } catch (TimeoutException e) {
             logger.error("Element did not become clickable within {} seconds: {}", DEFAULT_TIMEOUT, locator);
             throw e;
@@ -130,7 +151,8 @@ public class WaitUtils {
      */
     public WebElement waitForElementToBePresent(By locator) {
         try {
-            return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+            return until(ExpectedConditions.presenceOfElementLocated(locator),
+                    timeout -> EventWaits.await(driver, EventWaits.Signal.PRESENT, locator, null, timeout));
         } catch (TimeoutException e) {
             logger.error("Element did not become present within {} seconds: {}", DEFAULT_TIMEOUT, locator);
             throw e;
@@ -138,13 +160,21 @@ public class WaitUtils {
     }
     
     /**
-     * Wait for page to load
+     * Wait for page to load.
+     * Under the eager/none load strategy (see {@link DriverManager#getPageLoadStrategy()}), or on a document opened
+     * by an eager {@link DriverManager#navigate}, an interactive document counts as loaded; page objects wait for
+     * the elements they need themselves.
      */
     public void waitForPageToLoad() {
+        boolean interactiveIsEnough = DriverManager.getPageLoadStrategy() != PageLoadStrategy.NORMAL;
         try {
-            wait.until(webDriver -> 
-                ((JavascriptExecutor) webDriver).executeScript("return document.readyState").equals("complete")
-            );
+            until(AdaptiveWait.named(interactiveIsEnough ? "document interactive" : "document complete", webDriver ->
+                    Boolean.TRUE.equals(((JavascriptExecutor) webDriver).executeScript(
+                            "return document.readyState === 'complete' || (document.readyState === 'interactive'"
+                                    + " && (arguments[0] || " + DriverManager.RELAXED_LOAD_JS + "));",
+                            interactiveIsEnough))
+            ), timeout -> EventWaits.await(driver, EventWaits.Signal.READY,
+                    interactiveIsEnough ? "interactive" : "complete", timeout));
         } catch (TimeoutException e) {
             logger.warn("Page did not finish loading within {} seconds", DEFAULT_TIMEOUT);
         }
@@ -157,7 +187,8 @@ public class WaitUtils {
      */
     public boolean waitForElementToDisappear(By locator) {
         try {
-            return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+            return until(ExpectedConditions.invisibilityOfElementLocated(locator),
+                    timeout -> EventWaits.await(driver, EventWaits.Signal.HIDDEN, locator, null, timeout));
         } catch (TimeoutException e) {
             logger.warn("Element did not disappear within {} seconds: {}", DEFAULT_TIMEOUT, locator);
             return false;
@@ -172,13 +203,45 @@ public class WaitUtils {
      */
     public boolean waitForTextToBePresentInElement(By locator, String text) {
         try {
-            return wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+            return until(ExpectedConditions.textToBePresentInElementLocated(locator, text),
+                    timeout -> EventWaits.await(driver, EventWaits.Signal.TEXT, locator, text, timeout));
         } catch (TimeoutException e) {
             logger.error("Text '{}' did not appear in element within {} seconds: {}", text, DEFAULT_TIMEOUT, locator);
             return false;
         }
     }
     
+    /**
+     * Wait until the page has had no fetch/XHR request in flight for {@code wait.network.idle.ms}.
+     * Only the event backend can see requests; with polling this falls back to {@link #waitForPageToLoad()}.
+     * @return true if the network went idle in time
+     */
+    public boolean waitForNetworkIdle() {
+        if (!EventWaits.isEnabled(driver)) {
+            waitForPageToLoad();
+            return true;
+        }
+        boolean idle = EventWaits.await(driver, EventWaits.Signal.NETWORK_IDLE, (String) null, Duration.ofSeconds(DEFAULT_TIMEOUT));
+        if (!idle) {
+            logger.warn("Network did not go idle within {} seconds", DEFAULT_TIMEOUT);
+        }
+        return idle;
+    }
+
+    /**
+     * Evaluate a condition with WebDriver's own semantics, first without waiting. With the event backend the pauses
+     * between evaluations await the event signal for at most {@code wait.event.chunk.ms}: the in-page check is only a
+     * wake-up hint, so when it disagrees with Selenium a wait loses one chunk, not the whole timeout.
+     * With the polling backend, or a browser without event support, this is a plain backing-off poll.
+     */
+    private <T> T until(ExpectedCondition<T> condition, Function<Duration, Boolean> eventSignal) {
+        long started = System.nanoTime();
+        if (EventWaits.isEnabled(driver)) {
+            return wait.until(condition, started, Duration.ofMillis(ConfigReader.getWaitEventChunkMillis()), eventSignal);
+        }
+        return wait.until(condition, started);
+    }
+
     /**
      * Simple wait
      * @param seconds Seconds to wait
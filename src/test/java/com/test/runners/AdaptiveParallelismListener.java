@@ -0,0 +1,54 @@
+package com.test.runners;
+
+import com.test.config.ConfigReader;
+import com.test.utils.ConcurrencyController;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.IDataProviderAnnotation;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Senaryo (data provider) iş parçacığı havuzunu {@link ConcurrencyController} üst sınırına göre boyutlandırır.
+ * Sabit {@code data-provider-thread-count} değerinin yerine geçer; etkin eşzamanlılığı denetleyici belirler.
+ * testng.xml'de kalmış {@code parallel}/{@code thread-count} ayarları sıfırlanır: {@code <test>} blokları sırayla
+ * çalışır, böylece her biri kendi havuzunu açıp üst sınırı katlamaz.
+ * Koşucuların senaryo sağlayıcısı yalnızca {@code scenario.parallel.enabled=true} ise paralel yapılır; kapalıyken
+ * senaryolar eskisi gibi sırayla çalışır.
+ * testng.xml içindeki {@code <listeners>} bölümünden kaydedilir.
+ */
+public class AdaptiveParallelismListener implements IAlterSuiteListener, IAnnotationTransformer {
+
+    private static final Logger logger = LogManager.getLogger(AdaptiveParallelismListener.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        boolean parallel = ConfigReader.isParallelScenariosEnabled();
+        int poolSize = parallel ? ConcurrencyController.getInstance().getMaxConcurrency() : 1;
+        for (XmlSuite suite : suites) {
+            suite.setParallel(XmlSuite.ParallelMode.NONE);
+            suite.setThreadCount(1);
+            for (XmlTest test : suite.getTests()) {
+                test.setParallel(XmlSuite.ParallelMode.NONE);
+                test.setThreadCount(1);
+            }
+            suite.setDataProviderThreadCount(poolSize);
+            logger.info("Suite '{}' scenario thread pool sized to {}{}", suite.getName(), poolSize,
+                    parallel ? "" : " (parallel scenarios disabled)");
+        }
+    }
+
+    @Override
+    public void transform(IDataProviderAnnotation annotation, Method method) {
+        if (AbstractTestNGCucumberTests.class.isAssignableFrom(method.getDeclaringClass())
+                && "scenarios".equals(method.getName())) {
+            annotation.setParallel(ConfigReader.isParallelScenariosEnabled());
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.test.runners;
 
+import com.test.utils.DriverManager;
+import com.test.utils.PerformanceMonitor;
+import com.test.utils.ProcessReaper;
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.DataProvider;
 
 @CucumberOptions(
@@ -26,9 +30,24 @@ public class TestRunner extends AbstractTestNGCucumberTests {
     @Override
     @DataProvider(parallel = false)
     /**
-     * Senaryoların parametre sağlayıcısı (gerekirse paralel çalıştırma için ayarlanabilir).
+     * Senaryoların parametre sağlayıcısı. {@code scenario.parallel.enabled} açıkken {@link AdaptiveParallelismListener}
+     * sağlayıcıyı paralel yapar; aynı anda kaç tarayıcının çalışacağını {@link com.test.utils.ConcurrencyController} belirler.
      */
     public Object[][] scenarios() {
         return super.scenarios();
     }
+
+    /**
+     * Suite sonunda WebDriver komut gecikme yüzdeliklerini (p50/p90/p99/max) raporlar.
+     */
+    @AfterSuite(alwaysRun = true)
+    public void dumpLatencyReport() {
+        PerformanceMonitor.dumpReport();
+    }
+    
+    @AfterSuite(alwaysRun = true)
+    public void shutdownSharedBrowsers() {
+        DriverManager.shutdownSharedBrowsers();
+        ProcessReaper.dumpReport();
+    }
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.test.stepdefinitions;
 
 import com.test.core.TestContext;
+import com.test.utils.BrowserProfile;
+import com.test.utils.ConcurrencyController;
 import com.test.utils.DriverManager;
+import com.test.utils.EventWaits;
 import com.test.utils.ScreenshotUtils;
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
@@ -9,31 +12,46 @@ import io.cucumber.java.Scenario;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Cucumber adımları için temel yaşam döngüsü kancaları.
- * Senaryo başlangıcında sürücüyü başlatır ve bitişte başarı/başarısızlığa göre ekran görüntüsü alıp kapatır.
+ * Senaryo başlangıcında bağlamı açıp sürücüyü başlatır; bitişte başarı/başarısızlığa göre ekran görüntüsü alır,
+ * sürücüyü ve bağlamı kapatır.
  */
 public class BaseStepDefinitions {
     private static final Logger logger = LogManager.getLogger(BaseStepDefinitions.class);
-    private static int scenarioCounter = 0;
-    private long scenarioStartTime;
+    private static final AtomicInteger scenarioCounter = new AtomicInteger();
+    private final TestContext context;
+    private boolean holdsConcurrencySlot;
+    
+    public BaseStepDefinitions(TestContext context) {
+        this.context = context;
+    }
     
-    @Before
+    @Before(order = 0)
     /**
-     * Senaryo başlamadan önce çalışır: WebDriver'ı hazırlar.
+     * Senaryo başlamadan önce çalışır: bağlamı açar, eşzamanlılık yeri alır ve WebDriver'ı hazırlar.
      */
     public void setUp(Scenario scenario) {
-        scenarioCounter++;
-        scenarioStartTime = System.currentTimeMillis();
+        context.open(scenario.getId(), scenario.getName(), scenario.getSourceTagNames());
+        try {
+            ConcurrencyController.getInstance().acquire();
+            holdsConcurrencySlot = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a browser slot", e);
+        }
 
         logger.info("┌─────────────────────────────────────────────────────────────────────");
-        logger.info("│ SCENARIO #{}: {}", scenarioCounter, scenario.getName());
+        logger.info("│ SCENARIO #{}: {}", scenarioCounter.incrementAndGet(), scenario.getName());
         logger.info("│ Tags: {}", scenario.getSourceTagNames());
         logger.info("└─────────────────────────────────────────────────────────────────────");
 
-        TestContext.clearContext();
+        BrowserProfile profile = BrowserProfile.forTags(scenario.getSourceTagNames());
+        DriverManager.useProfile(profile);
         DriverManager.initializeDriver();
-        logger.info("WebDriver initialised successfully");
+        logger.info("WebDriver initialised successfully ({} profile)", profile);
     }
     
     @After
@@ -41,13 +59,16 @@ public class BaseStepDefinitions {
      * Senaryo tamamlandıktan sonra çalışır: gerekiyorsa ekran görüntüsü alır ve sürücüyü kapatır.
      */
     public void tearDown(Scenario scenario) {
-        long executionTime = System.currentTimeMillis() - scenarioStartTime;
+        long executionTime = context.getScenarioElapsedMillis();
         try {
             if (scenario.isFailed()) {
                 logger.error("✗ Scenario failed: {}", scenario.getName());
                 // Take screenshot before quitting driver
                 if (DriverManager.hasDriver()) {
                     ScreenshotUtils.captureScreenshotOnFailure(scenario.getName());
+                    for (String pageError : EventWaits.drainConsoleErrors(DriverManager.getDriver())) {
+                        logger.error("  Page error: {}", pageError);
+                    }
                 }
             } else {
                 logger.info("✓ Scenario passed: {}", scenario.getName());
@@ -55,10 +76,14 @@ public class BaseStepDefinitions {
         } catch (Exception e) {
             logger.warn("Error during teardown screenshot: " + e.getMessage());
         } finally {
-            TestContext.clearContext();
+            context.close();
             // Always quit driver
             DriverManager.quitDriver();
             logger.info("WebDriver quit successfully");
+            if (holdsConcurrencySlot) {
+                holdsConcurrencySlot = false;
+                ConcurrencyController.getInstance().release();
+            }
             logger.info("│ Execution Time: {} ms", executionTime);
             logger.info("│ Status: {}", scenario.getStatus());
             logger.info("└─────────────────────────────────────────────────────────────────────");
@@ -1,11 +1,15 @@
 package runners;
 
 import com.test.config.ConfigReader;
+import com.test.utils.DriverManager;
+import com.test.utils.PerformanceMonitor;
+import com.test.utils.ProcessReaper;
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 
@@ -45,6 +49,17 @@ public class TestRunner extends AbstractTestNGCucumberTests {
         logger.info("Amazon MacBook Pro Test Execution Completed");
     }
     
+    @AfterSuite(alwaysRun = true)
+    public void dumpLatencyReport() {
+        PerformanceMonitor.dumpReport();
+    }
+    
+    @AfterSuite(alwaysRun = true)
+    public void shutdownSharedBrowsers() {
+        DriverManager.shutdownSharedBrowsers();
+        ProcessReaper.dumpReport();
+    }
+    
     @Override
     @DataProvider(parallel = false)
     public Object[][] scenarios() {
@@ -41,6 +41,13 @@ Feature: Amazon MacBook Pro Purchase Test
     Then I should see 2 products in my cart
     And both products should be MacBook Pro models
 
+  @regression @macbook @cart-functionality @cart-seeding
+  Scenario: Prepare cart with multiple MacBook Pro models in one step
+    When I search for "MacBook Pro"
+    And I seed my cart with the 2 most expensive "MacBook Pro" results
+    Then I should see 2 products in my cart
+    And both products should be MacBook Pro models
+
   @macbook @product-comparison
   Scenario: Compare MacBook Pro product details
     When I search for "MacBook Pro"